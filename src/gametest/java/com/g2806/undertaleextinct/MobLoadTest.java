@@ -0,0 +1,267 @@
+package com.g2806.undertaleextinct;
+
+import net.fabricmc.fabric.api.gametest.v1.FabricGameTest;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityType;
+import net.minecraft.entity.mob.MobEntity;
+import net.minecraft.registry.Registries;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.test.GameTest;
+import net.minecraft.test.GameTestException;
+import net.minecraft.test.TestContext;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.Heightmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Load harness for the mod's server callbacks, run headless with {@code gradlew runGametest}.
+ * For every population and mode it spawns mixed mobs on the flat test world (with zombies
+ * and skeletons cursed while the purge is active), records per-tick timings with the
+ * {@link ModProfiler} while spawning and while the population just lives, and writes the
+ * percentiles to a CSV.
+ *
+ * <p>Settings (system properties, also settable as -Ploadtest.populations=... etc.):
+ * <ul>
+ *     <li>{@code undertaleextinct.loadtest.populations} - comma separated, default 1000,5000,20000</li>
+ *     <li>{@code undertaleextinct.loadtest.ticks} - steady ticks recorded per scenario, default 200</li>
+ *     <li>{@code undertaleextinct.loadtest.output} - CSV path, default loadtest.csv in the run directory</li>
+ * </ul>
+ */
+public class MobLoadTest implements FabricGameTest {
+    private static final Logger LOGGER = LoggerFactory.getLogger("MobLoadTest");
+
+    private static final int TICK_LIMIT = 200_000;
+    private static final int SPAWN_TICKS = 20;  // The population is spawned over 1 second
+    private static final int SETTLE_TICKS = 40; // Not recorded - lets the spawn burst and the saved-mode passes settle
+    private static final int CLEANUP_TICKS = 10;
+    private static final int SPACING = 2;       // Blocks between spawn points
+
+    // Hostile, undead, nether and passive mobs, so every mode has something to do
+    private static final EntityType<?>[] MOB_MIX = {
+            EntityType.ZOMBIE, EntityType.SKELETON, EntityType.CREEPER, EntityType.SPIDER,
+            EntityType.HUSK, EntityType.WITCH, EntityType.ENDERMAN, EntityType.PILLAGER,
+            EntityType.PIGLIN, EntityType.BLAZE, EntityType.HOGLIN, EntityType.WITHER_SKELETON,
+            EntityType.COW, EntityType.SHEEP, EntityType.PIG, EntityType.CHICKEN, EntityType.VILLAGER
+    };
+
+    // Cursed while the purge is active, so its removal paths see part of the mix
+    private static final EntityType<?>[] PURGED_MIX = {EntityType.ZOMBIE, EntityType.SKELETON};
+
+    private enum Mode {
+        BASELINE(false, false, false, false),
+        PURGE_ACTIVE(true, false, false, false),
+        NETHER_SAVED(false, true, false, false),
+        OVERWORLD_SAVED(false, false, true, false),
+        SPAWNING_DISABLED(false, false, false, true);
+
+        final boolean purgeActive;
+        final boolean netherSaved;
+        final boolean overworldSaved;
+        final boolean mobSpawningDisabled;
+
+        Mode(boolean purgeActive, boolean netherSaved, boolean overworldSaved, boolean mobSpawningDisabled) {
+            this.purgeActive = purgeActive;
+            this.netherSaved = netherSaved;
+            this.overworldSaved = overworldSaved;
+            this.mobSpawningDisabled = mobSpawningDisabled;
+        }
+    }
+
+    @GameTest(templateName = FabricGameTest.EMPTY_STRUCTURE, tickLimit = TICK_LIMIT)
+    public void mobLoad(TestContext context) {
+        int[] populations = Arrays.stream(System.getProperty("undertaleextinct.loadtest.populations", "1000,5000,20000").split(","))
+                .map(String::trim)
+                .mapToInt(Integer::parseInt)
+                .toArray();
+        int steadyTicks = Integer.getInteger("undertaleextinct.loadtest.ticks", 200);
+        Path output = Path.of(System.getProperty("undertaleextinct.loadtest.output", "loadtest.csv"));
+
+        int scenarioTicks = 1 + SPAWN_TICKS + SETTLE_TICKS + steadyTicks + CLEANUP_TICKS;
+        long totalTicks = (long) scenarioTicks * populations.length * Mode.values().length;
+        if (totalTicks + 1 >= TICK_LIMIT) {
+            throw new GameTestException("Load test needs " + totalTicks + " ticks, more than the limit of " + TICK_LIMIT);
+        }
+
+        ServerWorld world = context.getWorld();
+        BlockPos origin = context.getAbsolutePos(BlockPos.ORIGIN);
+        int maxPopulation = Arrays.stream(populations).max().orElse(0);
+        int side = (int) Math.ceil(Math.sqrt(maxPopulation)) * SPACING;
+        List<String> rows = new ArrayList<>();
+
+        // Keep the whole area loaded and entity-ticking while the test runs
+        ChunkPos minChunk = new ChunkPos(origin);
+        ChunkPos maxChunk = new ChunkPos(origin.add(side, 0, side));
+        setChunksForced(world, minChunk, maxChunk, true);
+
+        // Plan every scenario up front
+        long tick = 1;
+        for (int population : populations) {
+            for (Mode mode : Mode.values()) {
+                final long start = tick;
+                Random random = new Random(population * 31L + mode.ordinal());
+
+                // Recordings start and stop between spawns, so every recorded tick is a whole one
+                List<EntityType<?>> cursedHere = new ArrayList<>();
+                context.runAtTick(start, () -> {
+                    UndertaleExtinct.setModes(mode.purgeActive, mode.netherSaved, mode.overworldSaved, mode.mobSpawningDisabled);
+                    if (mode.purgeActive) {
+                        curse(cursedHere);
+                    }
+                    ModProfiler.startRecording();
+                });
+                for (int i = 0; i < SPAWN_TICKS; i++) {
+                    final int batch = i;
+                    context.runAtTick(start + 1 + i, () -> spawnBatch(world, origin, population, batch, random));
+                }
+                context.runAtTick(start + 1 + SPAWN_TICKS, () ->
+                        addRows(rows, population, mode, "spawn", ModProfiler.stopRecording()));
+                context.runAtTick(start + 1 + SPAWN_TICKS + SETTLE_TICKS, ModProfiler::startRecording);
+                context.runAtTick(start + 1 + SPAWN_TICKS + SETTLE_TICKS + steadyTicks, () -> {
+                    addRows(rows, population, mode, "steady", ModProfiler.stopRecording());
+                    clearMobs(world);
+                    uncurse(cursedHere);
+                    LOGGER.info("Load test scenario done: {} mobs, {}", population, mode);
+                });
+                tick += scenarioTicks;
+            }
+        }
+
+        context.runAtTick(tick, () -> {
+            UndertaleExtinct.setModes(false, false, false, false);
+            setChunksForced(world, minChunk, maxChunk, false);
+            writeCsv(output, rows);
+            context.complete();
+        });
+    }
+
+    /**
+     * Spawn one tick's share of the population on a grid, filling it row by row
+     */
+    private static void spawnBatch(ServerWorld world, BlockPos origin, int population, int batch, Random random) {
+        int perBatch = (population + SPAWN_TICKS - 1) / SPAWN_TICKS;
+        int first = batch * perBatch;
+        int last = Math.min(population, first + perBatch);
+        int columns = (int) Math.ceil(Math.sqrt(population));
+
+        for (int i = first; i < last; i++) {
+            int x = origin.getX() + (i % columns) * SPACING;
+            int z = origin.getZ() + (i / columns) * SPACING;
+            int y = world.getTopY(Heightmap.Type.MOTION_BLOCKING, x, z);
+
+            EntityType<?> entityType = MOB_MIX[random.nextInt(MOB_MIX.length)];
+            if (!(entityType.create(world) instanceof MobEntity mob)) continue;
+            mob.refreshPositionAndAngles(x + 0.5, y, z + 0.5, random.nextFloat() * 360.0F, 0.0F);
+            mob.setPersistent(); // Nothing may despawn during the measurement
+            world.spawnEntity(mob);
+        }
+    }
+
+    /**
+     * Curse the purged part of the mix, remembering which types weren't cursed already
+     */
+    private static void curse(List<EntityType<?>> cursed) {
+        for (EntityType<?> entityType : PURGED_MIX) {
+            if (!UndertaleExtinct.getPurgedMobs().contains(Registries.ENTITY_TYPE.getId(entityType))) {
+                UndertaleExtinct.addPurgedMob(entityType);
+                cursed.add(entityType);
+            }
+        }
+    }
+
+    private static void uncurse(List<EntityType<?>> cursed) {
+        for (EntityType<?> entityType : cursed) {
+            UndertaleExtinct.removePurgedMob(entityType);
+        }
+        cursed.clear();
+    }
+
+    /**
+     * Remove every mob of the world, including the ones that wandered out of the spawn area
+     */
+    private static void clearMobs(ServerWorld world) {
+        List<MobEntity> mobs = new ArrayList<>();
+        for (Entity entity : world.iterateEntities()) {
+            if (entity instanceof MobEntity mob) {
+                mobs.add(mob);
+            }
+        }
+        for (MobEntity mob : mobs) {
+            mob.discard();
+        }
+    }
+
+    private static void setChunksForced(ServerWorld world, ChunkPos min, ChunkPos max, boolean forced) {
+        for (int x = min.x; x <= max.x; x++) {
+            for (int z = min.z; z <= max.z; z++) {
+                world.setChunkForced(x, z, forced);
+            }
+        }
+    }
+
+    /**
+     * Summarize the recorded ticks: one row per timed section
+     */
+    private static void addRows(List<String> rows, int population, Mode mode, String phase, List<long[]> samples) {
+        String[] sections = new String[ModProfiler.Section.values().length + 1];
+        sections[0] = "server_tick";
+        for (ModProfiler.Section section : ModProfiler.Section.values()) {
+            sections[section.ordinal() + 1] = section.name().toLowerCase(Locale.ROOT);
+        }
+
+        for (int column = 0; column < sections.length; column++) {
+            long[] values = new long[samples.size()];
+            long sum = 0;
+            for (int i = 0; i < values.length; i++) {
+                values[i] = samples.get(i)[column];
+                sum += values[i];
+            }
+            Arrays.sort(values);
+
+            rows.add(String.format(Locale.ROOT, "%d,%s,%s,%s,%d,%.4f,%.4f,%.4f,%.4f,%.4f",
+                    population, mode.name().toLowerCase(Locale.ROOT), phase, sections[column], values.length,
+                    values.length > 0 ? sum / (double) values.length / 1_000_000.0 : 0.0,
+                    percentile(values, 0.50), percentile(values, 0.90), percentile(values, 0.99),
+                    values.length > 0 ? values[values.length - 1] / 1_000_000.0 : 0.0));
+        }
+    }
+
+    /**
+     * Nearest-rank percentile of sorted nanosecond values, in milliseconds
+     */
+    private static double percentile(long[] sorted, double fraction) {
+        if (sorted.length == 0) return 0.0;
+        int rank = (int) Math.ceil(fraction * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))] / 1_000_000.0;
+    }
+
+    private static void writeCsv(Path output, List<String> rows) {
+        try {
+            Path parent = output.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (Writer writer = Files.newBufferedWriter(output)) {
+                writer.write("population,mode,phase,section,ticks,mean_ms,p50_ms,p90_ms,p99_ms,max_ms\n");
+                for (String row : rows) {
+                    writer.write(row);
+                    writer.write('\n');
+                }
+            }
+            LOGGER.info("Wrote load test results to {}", output.toAbsolutePath());
+        } catch (IOException e) {
+            throw new GameTestException("Failed to write load test results: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.g2806.undertaleextinct;
+
+import net.minecraft.Bootstrap;
+import net.minecraft.SharedConstants;
+import net.minecraft.entity.EntityType;
+import net.minecraft.entity.SpawnGroup;
+import net.minecraft.registry.Registries;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Shared setup for the benchmarks: boots the vanilla registries without a server
+ * and builds reproducible mixes of mob types.
+ */
+final class BenchmarkBootstrap {
+    private static boolean initialized = false;
+
+    private BenchmarkBootstrap() {
+    }
+
+    /**
+     * Initialize the vanilla registries (entity types, blocks, ...) once per JVM
+     */
+    static synchronized void init() {
+        if (initialized) return;
+        SharedConstants.createGameVersion();
+        Bootstrap.initialize();
+        initialized = true;
+    }
+
+    /**
+     * Every registered mob type (everything that isn't MISC, e.g. items and projectiles), in a seeded random order
+     */
+    static List<EntityType<?>> shuffledMobTypes(long seed) {
+        init();
+        List<EntityType<?>> mobTypes = new ArrayList<>();
+        for (EntityType<?> entityType : Registries.ENTITY_TYPE) {
+            if (entityType.getSpawnGroup() != SpawnGroup.MISC) {
+                mobTypes.add(entityType);
+            }
+        }
+        Collections.shuffle(mobTypes, new Random(seed));
+        return mobTypes;
+    }
+
+    /**
+     * A stream of mob types as they would arrive at the entity events, drawn from every mob type
+     */
+    static EntityType<?>[] spawnMix(int size, long seed) {
+        List<EntityType<?>> mobTypes = shuffledMobTypes(seed);
+        Random random = new Random(seed);
+        EntityType<?>[] mix = new EntityType<?>[size];
+        for (int i = 0; i < size; i++) {
+            mix[i] = mobTypes.get(random.nextInt(mobTypes.size()));
+        }
+        return mix;
+    }
+}
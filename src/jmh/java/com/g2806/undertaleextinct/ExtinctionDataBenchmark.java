@@ -0,0 +1,54 @@
+package com.g2806.undertaleextinct;
+
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.util.Identifier;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Snapshotting and loading the extinction data. Sizes go from a vanilla world
+ * (every vanilla mob has kills) to a large modpack.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ExtinctionDataBenchmark {
+    // Mob types with a kill count; a quarter of them purged, half of those extinct
+    @Param({"80", "500", "2000"})
+    public int mobTypes;
+
+    private UndertaleExtinct.ExtinctionData data;
+    private NbtCompound saved;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42L);
+        data = new UndertaleExtinct.ExtinctionData();
+        for (int i = 0; i < mobTypes; i++) {
+            Identifier mobId = new Identifier(i < 80 ? "minecraft" : "benchmark_mod_" + (i % 20), "mob_" + i);
+            data.killCounts.put(mobId, random.nextInt(500));
+            if (i % 4 == 0) {
+                data.purgedMobs.add(mobId);
+                if (i % 8 == 0) {
+                    data.extinctMobs.add(mobId);
+                }
+            }
+        }
+        data.isPurgeActive = true;
+        data.journalGeneration = 12;
+
+        saved = data.writeNbt(new NbtCompound());
+    }
+
+    @Benchmark
+    public NbtCompound writeNbt() {
+        return data.writeNbt(new NbtCompound());
+    }
+
+    @Benchmark
+    public UndertaleExtinct.ExtinctionData fromNbt() {
+        return UndertaleExtinct.ExtinctionData.fromNbt(saved);
+    }
+}
@@ -0,0 +1,94 @@
+package com.g2806.undertaleextinct;
+
+import net.minecraft.entity.EntityType;
+import net.minecraft.registry.Registries;
+import net.minecraft.util.Identifier;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * The counting part of the AFTER_DEATH handler while the purge is active: count the kill,
+ * journal it and check the extinction threshold. Measured from one thread and from several
+ * at once, to see contention on the counters and the journal.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class KillCountBenchmark {
+    private static final int THRESHOLD = 500;
+
+    private EntityType<?>[] mix;
+    private Identifier[] mixIds;
+    private CursedTypeSnapshot snapshot;
+    private Path journalDir;
+
+    /**
+     * Each thread walks the kill stream from its own offset
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            next = (int) (Thread.currentThread().getId() * 131);
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        mix = BenchmarkBootstrap.spawnMix(1024, 42L);
+        mixIds = new Identifier[mix.length];
+        for (int i = 0; i < mix.length; i++) {
+            mixIds[i] = Registries.ENTITY_TYPE.getId(mix[i]);
+        }
+
+        // A few extinct types, so the threshold check sees both outcomes
+        List<EntityType<?>> mobTypes = BenchmarkBootstrap.shuffledMobTypes(7L);
+        List<Identifier> extinct = mobTypes.subList(0, 5).stream().map(Registries.ENTITY_TYPE::getId).toList();
+        snapshot = CursedTypeSnapshot.of(extinct, extinct);
+
+        KillCounter.clear();
+        journalDir = Files.createTempDirectory("undertaleextinct-jmh");
+        ExtinctionJournal.open(journalDir, 0);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        ExtinctionJournal.close();
+        KillCounter.clear();
+        try (Stream<Path> files = Files.walk(journalDir)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public boolean recordKill(Cursor cursor) {
+        int index = (cursor.next++ & Integer.MAX_VALUE) % mix.length;
+        EntityType<?> entityType = mix[index];
+
+        int currentCount = KillCounter.increment(entityType);
+        ExtinctionJournal.logKill(mixIds[index]);
+        return currentCount >= THRESHOLD && !snapshot.isExtinct(entityType);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean recordKillContended(Cursor cursor) {
+        return recordKill(cursor);
+    }
+
+    @Benchmark
+    public int incrementOnly(Cursor cursor) {
+        return KillCounter.increment(mix[(cursor.next++ & Integer.MAX_VALUE) % mix.length]);
+    }
+}
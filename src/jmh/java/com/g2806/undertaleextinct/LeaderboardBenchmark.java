@@ -0,0 +1,49 @@
+package com.g2806.undertaleextinct;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building the attack leaderboard shown by the scoreboard command
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LeaderboardBenchmark {
+    @Param({"1000", "10000", "100000"})
+    public int players;
+
+    @Param({"10", "100"})
+    public int limit;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42L);
+        Map<UUID, UndertaleScoreboard.PlayerScores> scores = new HashMap<>();
+        for (int i = 0; i < players; i++) {
+            UndertaleScoreboard.PlayerScores playerScores = new UndertaleScoreboard.PlayerScores();
+            playerScores.bestAttackValue = random.nextInt(101);
+            playerScores.lastAttackValue = random.nextInt(101);
+            playerScores.totalAttacks = 1 + random.nextInt(200);
+            playerScores.averageAttackValue = random.nextFloat() * 100;
+            scores.put(new UUID(random.nextLong(), random.nextLong()), playerScores);
+        }
+        UndertaleScoreboard.replaceScores(scores);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        UndertaleScoreboard.resetAllScores();
+    }
+
+    @Benchmark
+    public List<Map.Entry<UUID, UndertaleScoreboard.PlayerScores>> getLeaderboard() {
+        return UndertaleScoreboard.getLeaderboard(limit);
+    }
+}
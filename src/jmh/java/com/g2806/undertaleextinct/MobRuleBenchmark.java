@@ -0,0 +1,96 @@
+package com.g2806.undertaleextinct;
+
+import net.minecraft.entity.EntityType;
+import net.minecraft.registry.Registries;
+import net.minecraft.util.Identifier;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-entity rule checks from the ENTITY_LOAD handler and the spawn gate.
+ * Each invocation runs the check over a fixed stream of mob types, so the
+ * reported time is per entity.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(MobRuleBenchmark.MIX_SIZE)
+public class MobRuleBenchmark {
+    static final int MIX_SIZE = 1024;
+
+    // Number of purged types (half of them extinct)
+    @Param({"0", "10", "40"})
+    public int cursedTypes;
+
+    private EntityType<?>[] mix;
+    private CursedTypeSnapshot snapshot;
+    private Set<Identifier> cursedIds; // What the check hashed before the raw-id snapshot
+
+    @Setup(Level.Trial)
+    public void setup() {
+        mix = BenchmarkBootstrap.spawnMix(MIX_SIZE, 42L);
+
+        List<EntityType<?>> mobTypes = BenchmarkBootstrap.shuffledMobTypes(7L);
+        Set<Identifier> purged = new HashSet<>();
+        Set<Identifier> extinct = new HashSet<>();
+        for (int i = 0; i < Math.min(cursedTypes, mobTypes.size()); i++) {
+            Identifier mobId = Registries.ENTITY_TYPE.getId(mobTypes.get(i));
+            purged.add(mobId);
+            if (i % 2 == 0) {
+                extinct.add(mobId);
+            }
+        }
+        snapshot = CursedTypeSnapshot.of(purged, extinct);
+        cursedIds = purged;
+    }
+
+    @Benchmark
+    public void cursedSnapshot(Blackhole blackhole) {
+        for (EntityType<?> entityType : mix) {
+            blackhole.consume(snapshot.isCursed(entityType));
+        }
+    }
+
+    @Benchmark
+    public void cursedIdentifierSet(Blackhole blackhole) {
+        for (EntityType<?> entityType : mix) {
+            blackhole.consume(cursedIds.contains(Registries.ENTITY_TYPE.getId(entityType)));
+        }
+    }
+
+    @Benchmark
+    public void netherMob(Blackhole blackhole) {
+        for (EntityType<?> entityType : mix) {
+            blackhole.consume(UndertaleExtinct.isNetherMob(entityType));
+        }
+    }
+
+    @Benchmark
+    public void undeadMob(Blackhole blackhole) {
+        for (EntityType<?> entityType : mix) {
+            blackhole.consume(UndertaleExtinct.isUndeadMob(entityType));
+        }
+    }
+
+    @Benchmark
+    public void aquaticMob(Blackhole blackhole) {
+        for (EntityType<?> entityType : mix) {
+            blackhole.consume(UndertaleExtinct.isAquaticMob(entityType));
+        }
+    }
+
+    /**
+     * The overworld branch of the nether saved ENTITY_LOAD rule: both chains for every mob
+     */
+    @Benchmark
+    public void netherSavedOverworldRule(Blackhole blackhole) {
+        for (EntityType<?> entityType : mix) {
+            blackhole.consume(!UndertaleExtinct.isNetherMob(entityType) && !UndertaleExtinct.isAquaticMob(entityType));
+        }
+    }
+}
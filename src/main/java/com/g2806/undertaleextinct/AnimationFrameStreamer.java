@@ -0,0 +1,230 @@
+package com.g2806.undertaleextinct;
+
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.texture.NativeImage;
+import net.minecraft.client.texture.NativeImageBackedTexture;
+import net.minecraft.util.Identifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Streams the animation video into a single texture.
+ * Frames are inflated on a small worker pool a few frames ahead of playback; on the render
+ * thread only the tiles a frame changed are copied into the texture's image and uploaded
+ * as partial updates, so playback keeps one texture for the whole animation.
+ */
+public class AnimationFrameStreamer {
+    private static final Logger LOGGER = LoggerFactory.getLogger("AnimationFrameStreamer");
+    private static final String MOD_ID = "undertaleextinct";
+
+    private static final Identifier VIDEO_LOCATION = new Identifier(MOD_ID, "animation/extinction.utav");
+    private static final Identifier TEXTURE_ID = new Identifier(MOD_ID, "animation_video");
+
+    // Number of frames decoded ahead of the current one
+    private static final int PREFETCH_WINDOW = 6;
+
+    private static final ExecutorService DECODER = Executors.newFixedThreadPool(2, runnable -> {
+        Thread thread = new Thread(runnable, "UndertaleExtinct Frame Decoder");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private AnimationVideo video;
+    private boolean videoStale = false; // Resources were reloaded, read the video again on the next open
+    private NativeImageBackedTexture texture;
+    private CompletableFuture<AnimationVideo.Frame>[] decodes;
+    private boolean[] consumed; // Decode already applied (even if it failed)
+    private boolean[] dirtyTiles; // Tiles changed in the image but not uploaded yet
+
+    public AnimationFrameStreamer() {
+        // A resource pack may replace the video
+        TextureCache.addReloadListener(() -> videoStale = true);
+    }
+
+    /**
+     * Load the video and create its texture (render thread). Returns false if the video is missing or broken.
+     */
+    @SuppressWarnings("unchecked")
+    public boolean open() {
+        release();
+
+        if (video == null || videoStale) {
+            videoStale = false;
+            video = null;
+            try {
+                var resourceOpt = MinecraftClient.getInstance().getResourceManager().getResource(VIDEO_LOCATION);
+                if (resourceOpt.isEmpty()) {
+                    LOGGER.error("Could not find animation video: {}", VIDEO_LOCATION);
+                    return false;
+                }
+
+                try (InputStream inputStream = resourceOpt.get().getInputStream()) {
+                    video = AnimationVideo.read(inputStream);
+                }
+            } catch (Exception e) {
+                LOGGER.error("Failed to load animation video: {}", e.getMessage());
+                return false;
+            }
+        }
+
+        // Zero-filled, so the screen stays black until the first frame arrives
+        NativeImage image = new NativeImage(NativeImage.Format.RGBA, video.getWidth(), video.getHeight(), true);
+        texture = new NativeImageBackedTexture(image);
+        TextureCache.put(TEXTURE_ID, texture, (long) video.getWidth() * video.getHeight() * 4);
+
+        decodes = new CompletableFuture[video.getFrameCount()];
+        consumed = new boolean[video.getFrameCount()];
+        dirtyTiles = new boolean[video.getTileCount()];
+        return true;
+    }
+
+    /**
+     * Make sure the frames from the given one up to the prefetch window are being decoded
+     */
+    public void prefetch(int frame) {
+        if (video == null || decodes == null) return;
+
+        int end = Math.min(video.getFrameCount(), frame + PREFETCH_WINDOW);
+        for (int i = Math.max(0, frame); i < end; i++) {
+            if (decodes[i] == null && !consumed[i]) {
+                final int frameIndex = i;
+                decodes[i] = CompletableFuture.supplyAsync(() -> decode(frameIndex), DECODER);
+            }
+        }
+    }
+
+    /**
+     * Check if a frame can be applied right now (decoded, or failed and skippable)
+     */
+    public boolean isReady(int frame) {
+        if (decodes == null || frame < 0 || frame >= decodes.length) return false;
+        return consumed[frame] || (decodes[frame] != null && decodes[frame].isDone());
+    }
+
+    /**
+     * Check if a frame redraws every tile, so the frames before it can be skipped
+     */
+    public boolean isKeyframe(int frame) {
+        return video != null && frame >= 0 && frame < video.getFrameCount() && video.isKeyframe(frame);
+    }
+
+    /**
+     * Drop every frame before a keyframe without applying it (used to catch up after a stall)
+     */
+    public void skipTo(int keyframe) {
+        if (decodes == null || !isKeyframe(keyframe)) return;
+
+        for (int i = 0; i < keyframe; i++) {
+            decodes[i] = null;
+            consumed[i] = true;
+        }
+    }
+
+    /**
+     * Copy a decoded frame's changed tiles into the image (render thread). Frames must be
+     * applied in order; call {@link #flush()} afterwards to send them to the GPU.
+     */
+    public void apply(int frame) {
+        if (!isReady(frame) || consumed[frame]) return;
+
+        CompletableFuture<AnimationVideo.Frame> decode = decodes[frame];
+        decodes[frame] = null;
+        consumed[frame] = true;
+
+        AnimationVideo.Frame decoded = decode.getNow(null);
+        if (decoded == null) return;
+
+        NativeImage image = texture.getImage();
+        int tileSize = video.getTileSize();
+        for (int i = 0; i < decoded.tiles.length; i++) {
+            int tile = decoded.tiles[i];
+            int tileX = video.getTileX(tile);
+            int tileY = video.getTileY(tile);
+            int tileWidth = video.getTileWidth(tile);
+            int tileHeight = video.getTileHeight(tile);
+            int base = i * tileSize * tileSize;
+            for (int y = 0; y < tileHeight; y++) {
+                for (int x = 0; x < tileWidth; x++) {
+                    image.setColor(tileX + x, tileY + y, decoded.pixels[base + y * tileSize + x]);
+                }
+            }
+            dirtyTiles[tile] = true;
+        }
+    }
+
+    /**
+     * Upload the tiles changed since the last flush (render thread).
+     * Each row of tiles is sent as one update spanning its first to last changed tile.
+     */
+    public void flush() {
+        if (texture == null || dirtyTiles == null) return;
+
+        NativeImage image = texture.getImage();
+        int tilesPerRow = video.getTilesPerRow();
+        boolean bound = false;
+        for (int rowStart = 0; rowStart < dirtyTiles.length; rowStart += tilesPerRow) {
+            int first = -1;
+            int last = -1;
+            for (int tile = rowStart; tile < rowStart + tilesPerRow; tile++) {
+                if (dirtyTiles[tile]) {
+                    if (first < 0) first = tile;
+                    last = tile;
+                    dirtyTiles[tile] = false;
+                }
+            }
+            if (first < 0) continue;
+
+            if (!bound) {
+                texture.bindTexture();
+                bound = true;
+            }
+            int x = video.getTileX(first);
+            int y = video.getTileY(first);
+            int width = video.getTileX(last) + video.getTileWidth(last) - x;
+            int height = video.getTileHeight(first);
+            image.upload(0, x, y, x, y, width, height, false, false);
+        }
+    }
+
+    /**
+     * Get the animation texture, or null if the video isn't open
+     */
+    public Identifier getTexture() {
+        return texture != null ? TEXTURE_ID : null;
+    }
+
+    /**
+     * Total frames in the video, or 0 if it isn't loaded
+     */
+    public int getFrameCount() {
+        return video != null ? video.getFrameCount() : 0;
+    }
+
+    /**
+     * Free the texture and forget all decode work (render thread)
+     */
+    public void release() {
+        if (texture != null) {
+            // Last reference, so the cache closes the texture and its NativeImage
+            TextureCache.release(TEXTURE_ID);
+            texture = null;
+        }
+        decodes = null;
+        consumed = null;
+        dirtyTiles = null;
+    }
+
+    private AnimationVideo.Frame decode(int frame) {
+        try {
+            return video.decode(frame);
+        } catch (Exception e) {
+            LOGGER.error("Failed to decode animation frame {}: {}", frame + 1, e.getMessage());
+            return null;
+        }
+    }
+}
@@ -7,20 +7,13 @@ import net.minecraft.client.gui.DrawContext;
 import net.minecraft.client.gui.screen.Screen;
 import net.minecraft.text.Text;
 import net.minecraft.client.option.GameOptions;
-import net.minecraft.client.texture.NativeImage;
-import net.minecraft.client.texture.NativeImageBackedTexture;
 import net.minecraft.client.util.math.MatrixStack;
 import net.minecraft.util.Identifier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.util.ArrayList;
-import java.util.List;
-
 /**
- * Handles fullscreen animation playback using image sequences
+ * Handles fullscreen animation playback from the delta-encoded animation video
  */
 public class AnimationPlayer {
     private static final Logger LOGGER = LoggerFactory.getLogger("AnimationPlayer");
@@ -29,13 +22,16 @@ public class AnimationPlayer {
     // Animation state
     private boolean isPlaying = false;
     private int currentFrame = 0;
-    private int totalFrames = 81; // Based on the frames in resources
-    private long lastFrameTime = 0;
-    private int frameDelay = 2; // Ticks between frames (20 ticks = 1 second)
+    private int totalFrames = 0; // Read from the video when playback starts
+    
+    // Playback clock - wall time, so lag, a paused integrated server or no world at all don't affect timing
+    private long playbackStartNanos = 0; // When frame 0 was shown
+    private int playbackFps = 10; // Read from the config when playback starts
+    private static final int MAX_CATCH_UP_FRAMES = 4; // Further behind than this, the clock waits for decoding instead
     
-    // Texture management
-    private List<Identifier> frameTextures = new ArrayList<>();
-    private boolean texturesLoaded = false;
+    // Texture management - frames are decoded ahead of playback and only their changed tiles are uploaded
+    private final AnimationFrameStreamer frameStreamer = new AnimationFrameStreamer();
+    private boolean firstFrameShown = false;
     
     // UI state management
     private Screen originalScreen = null;
@@ -49,7 +45,10 @@ public class AnimationPlayer {
         
         @Override
         public void render(DrawContext context, int mouseX, int mouseY, float delta) {
-            if (isPlaying && texturesLoaded && currentFrame < frameTextures.size()) {
+            if (isPlaying) {
+                // Pick the frame for this exact moment, so playback is as smooth as the framerate allows
+                updateAnimation();
+                
                 // Get screen dimensions
                 int screenWidth = this.width;
                 int screenHeight = this.height;
@@ -57,9 +56,9 @@ public class AnimationPlayer {
                 // Clear the entire screen with black background
                 context.fill(0, 0, screenWidth, screenHeight, 0xFF000000);
                 
-                // Render the current frame fullscreen
-                if (currentFrame >= 0 && currentFrame < frameTextures.size()) {
-                    Identifier currentTexture = frameTextures.get(currentFrame);
+                // Render the current frame fullscreen (stays black until the first frame is decoded)
+                Identifier currentTexture = frameStreamer.getTexture();
+                if (currentTexture != null) {
                     context.drawTexture(currentTexture, 0, 0, 0, 0, screenWidth, screenHeight, screenWidth, screenHeight);
                 }
             }
@@ -80,63 +79,10 @@ public class AnimationPlayer {
         registerEvents();
     }
     
-    private void loadFrameTextures() {
-        MinecraftClient client = MinecraftClient.getInstance();
-        if (client == null || client.getResourceManager() == null) {
-            LOGGER.warn("ResourceManager not available yet, deferring texture loading");
-            return;
-        }
-        
-        if (texturesLoaded) return; // Already loaded
-        
-        frameTextures.clear(); // Clear any existing textures
-        
-        try {
-            // Load all animation frames
-            for (int i = 1; i <= totalFrames; i++) {
-                String frameNumber = String.format("%03d", i);
-                String texturePath = "textures/animation/ezgif-frame-" + frameNumber + ".jpg";
-                Identifier textureLocation = new Identifier(MOD_ID, texturePath);
-                Identifier frameId = new Identifier(MOD_ID, "animation_frame_" + frameNumber);
-                
-                // Load the texture from resources
-                var resourceOpt = client.getResourceManager().getResource(textureLocation);
-                if (resourceOpt.isEmpty()) {
-                    LOGGER.error("Could not find texture: {} (frame {})", texturePath, i);
-                    return; // Don't proceed if any frame is missing
-                }
-                
-                try (InputStream inputStream = resourceOpt.get().getInputStream()) {
-                    NativeImage image = NativeImage.read(inputStream);
-                    NativeImageBackedTexture texture = new NativeImageBackedTexture(image);
-                    
-                    // Register the texture
-                    client.getTextureManager().registerTexture(frameId, texture);
-                    frameTextures.add(frameId);
-                }
-            }
-            
-            if (frameTextures.size() == totalFrames) {
-                texturesLoaded = true;
-                LOGGER.info("Successfully loaded all {} animation frames", frameTextures.size());
-            } else {
-                LOGGER.error("Failed to load all frames. Expected: {}, Loaded: {}", totalFrames, frameTextures.size());
-                frameTextures.clear();
-            }
-            
-        } catch (IOException e) {
-            LOGGER.error("Failed to load animation textures", e);
-            frameTextures.clear();
-        } catch (Exception e) {
-            LOGGER.error("Unexpected error loading textures", e);
-            frameTextures.clear();
-        }
-    }
-    
     private void registerEvents() {
-        // Register tick event for animation updates
+        // Register tick event for animation updates (the screen also updates every frame it renders)
         ClientTickEvents.END_CLIENT_TICK.register(client -> {
-            if (isPlaying && texturesLoaded) {
+            if (isPlaying) {
                 updateAnimation();
             }
         });
@@ -146,21 +92,57 @@ public class AnimationPlayer {
     }
     
     private void updateAnimation() {
-        MinecraftClient client = MinecraftClient.getInstance();
-        if (client == null || client.world == null) return;
+        long now = System.nanoTime();
         
-        long currentTime = client.world.getTime();
+        // Keep the decode window ahead of playback full
+        frameStreamer.prefetch(currentFrame);
         
-        if (currentTime - lastFrameTime >= frameDelay) {
-            currentFrame++;
-            lastFrameTime = currentTime;
-            
-            // Stop at frame 81 (totalFrames) - no looping
-            if (currentFrame >= totalFrames) {
-                LOGGER.info("Animation completed - reached final frame {}", totalFrames);
-                stopAnimation();
-                return;
+        // Show the first frame as soon as it is decoded, and start the clock from there
+        if (!firstFrameShown) {
+            if (frameStreamer.isReady(0)) {
+                frameStreamer.apply(0);
+                frameStreamer.flush();
+                firstFrameShown = true;
+                playbackStartNanos = now;
             }
+            return;
+        }
+        
+        int targetFrame = (int) ((now - playbackStartNanos) * playbackFps / 1_000_000_000L);
+        
+        // Stop after the last frame has been shown for its full duration - no looping
+        if (targetFrame >= totalFrames) {
+            LOGGER.info("Animation completed - reached final frame {}", totalFrames);
+            stopAnimation();
+            return;
+        }
+        if (targetFrame <= currentFrame) return;
+        
+        // Far behind: jump straight to the latest keyframe that is due, it redraws the whole picture
+        for (int frame = targetFrame; frame > currentFrame + 1; frame--) {
+            if (frameStreamer.isKeyframe(frame)) {
+                frameStreamer.skipTo(frame);
+                currentFrame = frame - 1;
+                break;
+            }
+        }
+        
+        // Apply every due frame that is decoded (frames only build on each other, so none can be left out),
+        // but upload once - the frames in between are dropped from the screen
+        boolean changed = false;
+        while (currentFrame < targetFrame && frameStreamer.isReady(currentFrame + 1)) {
+            currentFrame++;
+            frameStreamer.apply(currentFrame);
+            changed = true;
+        }
+        if (changed) {
+            frameStreamer.flush();
+            frameStreamer.prefetch(currentFrame);
+        }
+        
+        // Decoding can't keep up - hold the clock rather than racing through frames once it does
+        if (targetFrame - currentFrame > MAX_CATCH_UP_FRAMES) {
+            playbackStartNanos = now - (currentFrame + 1L) * 1_000_000_000L / playbackFps;
         }
     }
     
@@ -201,29 +183,23 @@ public class AnimationPlayer {
      * Start playing the animation
      */
     public void startAnimation() {
-        // Try to load textures if not loaded yet
-        if (!texturesLoaded) {
-            loadFrameTextures();
-        }
-        
-        if (!texturesLoaded) {
-            LOGGER.warn("Cannot start animation - textures not loaded");
+        // Open the video and start decoding right away - playback begins as soon as the first frame is ready
+        if (!frameStreamer.open()) {
+            LOGGER.error("Animation could not be started - video unavailable");
             return;
         }
+        totalFrames = frameStreamer.getFrameCount();
+        frameStreamer.prefetch(0);
         
         // Hide all UI elements
         hideGameUI();
         
         isPlaying = true;
         currentFrame = 0;
-        lastFrameTime = 0;
+        firstFrameShown = false;
+        playbackFps = ModConfig.getInstance().getAnimationFps();
         
-        MinecraftClient client = MinecraftClient.getInstance();
-        if (client != null && client.world != null) {
-            lastFrameTime = client.world.getTime();
-        }
-        
-        LOGGER.info("Animation started - playing {} frames with fullscreen overlay", totalFrames);
+        LOGGER.info("Animation started - playing {} frames at {} FPS with fullscreen overlay", totalFrames, playbackFps);
     }
     
     /**
@@ -233,6 +209,9 @@ public class AnimationPlayer {
         isPlaying = false;
         currentFrame = 0;
         
+        // Free the video texture and any frames still being decoded
+        MinecraftClient.getInstance().execute(frameStreamer::release);
+        
         // Restore UI elements
         restoreGameUI();
         
@@ -247,10 +226,10 @@ public class AnimationPlayer {
     }
     
     /**
-     * Set the frame delay (ticks between frames)
+     * Get the frame rate of the current (or last) playback
      */
-    public void setFrameDelay(int ticks) {
-        this.frameDelay = Math.max(1, ticks);
+    public int getPlaybackFps() {
+        return playbackFps;
     }
     
     /**
@@ -0,0 +1,187 @@
+package com.g2806.undertaleextinct;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Reader for the compact animation container written at build time by the AnimationEncoder tool.
+ * Layout (big-endian): magic, version, width, height, tile size and frame count, then one
+ * (offset, length, raw length, flags) index entry per frame, followed by the frame payloads.
+ * Each payload is a deflated list of the tiles that changed since the previous frame: the tile
+ * index, then the tile's rows as RGB bytes stored as differences from the pixel to their left.
+ * The first frame (and any scene cut) is a keyframe that contains every tile.
+ */
+public class AnimationVideo {
+    public static final int MAGIC = 0x55544156; // "UTAV"
+    public static final int VERSION = 1;
+    public static final int FLAG_KEYFRAME = 1;
+
+    private final byte[] data;
+    private final int width;
+    private final int height;
+    private final int tileSize;
+    private final int tilesPerRow;
+    private final int tileCount;
+    private final int[] offsets;
+    private final int[] lengths;
+    private final int[] rawLengths;
+    private final byte[] flags;
+
+    /**
+     * Tiles changed by one frame. Pixels are ABGR (NativeImage order), tileSize * tileSize per tile
+     * in tile order; edge tiles only use their top-left part.
+     */
+    public static class Frame {
+        public final int[] tiles;
+        public final int[] pixels;
+
+        Frame(int[] tiles, int[] pixels) {
+            this.tiles = tiles;
+            this.pixels = pixels;
+        }
+    }
+
+    private AnimationVideo(byte[] data) throws IOException {
+        this.data = data;
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+        if (in.readInt() != MAGIC) throw new IOException("not an animation container");
+        int version = in.readInt();
+        if (version != VERSION) throw new IOException("unsupported animation container version " + version);
+
+        width = in.readInt();
+        height = in.readInt();
+        tileSize = in.readInt();
+        int frameCount = in.readInt();
+        if (width <= 0 || height <= 0 || tileSize <= 0 || frameCount < 0) {
+            throw new IOException("invalid animation container header");
+        }
+        tilesPerRow = (width + tileSize - 1) / tileSize;
+        tileCount = tilesPerRow * ((height + tileSize - 1) / tileSize);
+
+        offsets = new int[frameCount];
+        lengths = new int[frameCount];
+        rawLengths = new int[frameCount];
+        flags = new byte[frameCount];
+        for (int i = 0; i < frameCount; i++) {
+            offsets[i] = in.readInt();
+            lengths[i] = in.readInt();
+            rawLengths[i] = in.readInt();
+            flags[i] = in.readByte();
+            if (offsets[i] < 0 || lengths[i] < 0 || rawLengths[i] < 0 || offsets[i] > data.length - lengths[i]) {
+                throw new IOException("invalid index entry for frame " + (i + 1));
+            }
+        }
+    }
+
+    /**
+     * Read a whole container into memory (it is small - the frame payloads are only inflated when decoded)
+     */
+    public static AnimationVideo read(InputStream inputStream) throws IOException {
+        return new AnimationVideo(inputStream.readAllBytes());
+    }
+
+    /**
+     * Inflate the changed tiles of a frame. Safe to call from any thread.
+     */
+    public Frame decode(int frame) throws IOException {
+        byte[] raw = new byte[rawLengths[frame]];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data, offsets[frame], lengths[frame]);
+            int read = 0;
+            while (read < raw.length && !inflater.finished()) {
+                int count = inflater.inflate(raw, read, raw.length - read);
+                if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) break;
+                read += count;
+            }
+            if (read != raw.length) throw new IOException("truncated frame " + (frame + 1));
+        } catch (DataFormatException e) {
+            throw new IOException("corrupt frame " + (frame + 1), e);
+        } finally {
+            inflater.end();
+        }
+
+        // First pass counts the tiles so the output arrays can be sized exactly
+        int tiles = 0;
+        for (int pos = 0; pos < raw.length; tiles++) {
+            int tile = ((raw[pos] & 0xFF) << 8) | (raw[pos + 1] & 0xFF);
+            if (tile >= tileCount) throw new IOException("invalid tile " + tile + " in frame " + (frame + 1));
+            pos += 2 + getTileWidth(tile) * getTileHeight(tile) * 3;
+            if (pos > raw.length) throw new IOException("truncated tile in frame " + (frame + 1));
+        }
+
+        int[] tileIndices = new int[tiles];
+        int[] pixels = new int[tiles * tileSize * tileSize];
+        int pos = 0;
+        for (int i = 0; i < tiles; i++) {
+            int tile = ((raw[pos] & 0xFF) << 8) | (raw[pos + 1] & 0xFF);
+            pos += 2;
+            tileIndices[i] = tile;
+
+            int tileWidth = getTileWidth(tile);
+            int tileHeight = getTileHeight(tile);
+            int base = i * tileSize * tileSize;
+            for (int y = 0; y < tileHeight; y++) {
+                int red = 0;
+                int green = 0;
+                int blue = 0;
+                for (int x = 0; x < tileWidth; x++) {
+                    red = (red + raw[pos++]) & 0xFF;
+                    green = (green + raw[pos++]) & 0xFF;
+                    blue = (blue + raw[pos++]) & 0xFF;
+                    pixels[base + y * tileSize + x] = 0xFF000000 | (blue << 16) | (green << 8) | red;
+                }
+            }
+        }
+        return new Frame(tileIndices, pixels);
+    }
+
+    public int getFrameCount() {
+        return offsets.length;
+    }
+
+    public boolean isKeyframe(int frame) {
+        return (flags[frame] & FLAG_KEYFRAME) != 0;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getTileSize() {
+        return tileSize;
+    }
+
+    public int getTilesPerRow() {
+        return tilesPerRow;
+    }
+
+    public int getTileCount() {
+        return tileCount;
+    }
+
+    public int getTileX(int tile) {
+        return (tile % tilesPerRow) * tileSize;
+    }
+
+    public int getTileY(int tile) {
+        return (tile / tilesPerRow) * tileSize;
+    }
+
+    public int getTileWidth(int tile) {
+        return Math.min(tileSize, width - getTileX(tile));
+    }
+
+    public int getTileHeight(int tile) {
+        return Math.min(tileSize, height - getTileY(tile));
+    }
+}
@@ -0,0 +1,321 @@
+package com.g2806.undertaleextinct;
+
+import com.mojang.blaze3d.systems.RenderSystem;
+import net.fabricmc.fabric.api.client.rendering.v1.HudRenderCallback;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.gui.DrawContext;
+import net.minecraft.client.render.BufferBuilder;
+import net.minecraft.client.render.BufferRenderer;
+import net.minecraft.client.render.GameRenderer;
+import net.minecraft.client.render.Tessellator;
+import net.minecraft.client.render.VertexFormat;
+import net.minecraft.client.render.VertexFormats;
+import net.minecraft.client.texture.NativeImage;
+import net.minecraft.client.texture.NativeImageBackedTexture;
+import net.minecraft.util.Identifier;
+import org.joml.Matrix4f;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Shared HUD renderer for the attack overlays.
+ * All overlay sprites are packed into one atlas texture, so every frame, slider and slash
+ * quad of every visible overlay goes into a single buffer and is drawn in one batch, with
+ * fades applied through vertex colors instead of shader state. Layers only recompute their
+ * layout when the window is resized, and nothing is allocated per frame.
+ */
+public class AttackHudRenderer {
+    private static final Logger LOGGER = LoggerFactory.getLogger("AttackHudRenderer");
+    private static final String MOD_ID = "undertaleextinct";
+
+    private static final Identifier ATLAS_ID = new Identifier(MOD_ID, "attack_hud_atlas");
+    private static final int ATLAS_WIDTH = 1024;
+    private static final int GUTTER = 1; // Transparent pixels between sprites
+
+    /**
+     * Something drawn on the attack HUD
+     */
+    public interface Layer {
+        boolean isVisible();
+
+        /**
+         * Recompute cached positions for a new scaled screen size
+         */
+        void onResize(int screenWidth, int screenHeight);
+
+        /**
+         * Add this layer's quads with {@link #quad} and {@link #fill}
+         */
+        void emitQuads(float tickDelta);
+
+        /**
+         * Draw this layer's text, after all quads have been drawn
+         */
+        void drawText(DrawContext context, float tickDelta);
+    }
+
+    /**
+     * A region of the atlas
+     */
+    public static final class Sprite {
+        private final Identifier source;
+        private float u0;
+        private float v0;
+        private float u1;
+        private float v1;
+
+        private Sprite(Identifier source) {
+            this.source = source;
+        }
+    }
+
+    public static final Sprite ATTACK_FRAME = new Sprite(new Identifier(MOD_ID, "textures/gui/attack_frame.png"));
+    public static final Sprite ATTACK_SLIDER = new Sprite(new Identifier(MOD_ID, "textures/gui/attack_slider.png"));
+    public static final Sprite[] COLOR_SLIDERS = {
+            new Sprite(new Identifier(MOD_ID, "textures/gui/red.png")),
+            new Sprite(new Identifier(MOD_ID, "textures/gui/blue.png")),
+            new Sprite(new Identifier(MOD_ID, "textures/gui/yellow.png"))
+    };
+    public static final Sprite[] SLASH = new Sprite[5];
+    private static final Sprite WHITE = new Sprite(null); // Solid fills
+
+    private static final List<Sprite> ALL_SPRITES = new ArrayList<>();
+
+    static {
+        for (int i = 0; i < SLASH.length; i++) {
+            SLASH[i] = new Sprite(new Identifier(MOD_ID, "textures/gui/slash/" + (i + 1) + ".png"));
+        }
+        ALL_SPRITES.add(ATTACK_FRAME);
+        ALL_SPRITES.add(ATTACK_SLIDER);
+        ALL_SPRITES.addAll(List.of(COLOR_SLIDERS));
+        ALL_SPRITES.addAll(List.of(SLASH));
+        ALL_SPRITES.add(WHITE);
+    }
+
+    private static final List<Layer> layers = new ArrayList<>();
+    private static int atlasReferences = 0;
+    private static boolean atlasReady = false; // Built from the current resources and held in the TextureCache
+    private static boolean atlasFailed = false; // Don't retry every frame until resources change
+    private static int screenWidth = -1;
+    private static int screenHeight = -1;
+
+    // Current batch
+    private static BufferBuilder buffer = null;
+    private static Matrix4f matrix = null;
+    private static int quadCount = 0;
+
+    public static void register() {
+        HudRenderCallback.EVENT.register(AttackHudRenderer::render);
+
+        // Resource packs may replace the sprites
+        TextureCache.addReloadListener(() -> {
+            // Let go of the stale atlas; the next frame builds a new one in its place
+            if (atlasReady && atlasReferences > 0) {
+                TextureCache.release(ATLAS_ID);
+            }
+            atlasReady = false;
+            atlasFailed = false;
+        });
+    }
+
+    public static void addLayer(Layer layer) {
+        layers.add(layer);
+    }
+
+    /**
+     * Keep the atlas on the GPU while an overlay is shown. The first overlay takes the atlas
+     * back from the TextureCache; it is only rebuilt if the cache evicted it meanwhile.
+     */
+    public static void acquireAtlas() {
+        atlasReferences++;
+        if (atlasReferences == 1 && atlasReady && !TextureCache.acquireIfCached(ATLAS_ID)) {
+            atlasReady = false;
+        }
+    }
+
+    /**
+     * Hand the atlas to the TextureCache once no overlay is shown. It stays resident for the
+     * next attack until the texture budget or a resource reload evicts it.
+     */
+    public static void releaseAtlas() {
+        if (atlasReferences == 0) return;
+        atlasReferences--;
+        if (atlasReferences == 0 && atlasReady) {
+            TextureCache.release(ATLAS_ID);
+        }
+    }
+
+    /**
+     * Add a sprite quad to the current batch. The color tints the sprite (ARGB, alpha for fades).
+     */
+    public static void quad(Sprite sprite, float x, float y, float width, float height, int color) {
+        if (buffer == null) return;
+
+        int alpha = (color >>> 24) & 0xFF;
+        int red = (color >> 16) & 0xFF;
+        int green = (color >> 8) & 0xFF;
+        int blue = color & 0xFF;
+        buffer.vertex(matrix, x, y, 0).color(red, green, blue, alpha).texture(sprite.u0, sprite.v0).next();
+        buffer.vertex(matrix, x, y + height, 0).color(red, green, blue, alpha).texture(sprite.u0, sprite.v1).next();
+        buffer.vertex(matrix, x + width, y + height, 0).color(red, green, blue, alpha).texture(sprite.u1, sprite.v1).next();
+        buffer.vertex(matrix, x + width, y, 0).color(red, green, blue, alpha).texture(sprite.u1, sprite.v0).next();
+        quadCount++;
+    }
+
+    /**
+     * Add a solid rectangle to the current batch
+     */
+    public static void fill(int x1, int y1, int x2, int y2, int color) {
+        quad(WHITE, x1, y1, x2 - x1, y2 - y1, color);
+    }
+
+    private static void render(DrawContext context, float tickDelta) {
+        boolean anyVisible = false;
+        for (int i = 0; i < layers.size(); i++) {
+            if (layers.get(i).isVisible()) {
+                anyVisible = true;
+                break;
+            }
+        }
+        if (!anyVisible) return;
+
+        if (!atlasReady && (atlasFailed || !buildAtlas())) return;
+
+        // Layout only changes with the window
+        MinecraftClient client = MinecraftClient.getInstance();
+        int width = client.getWindow().getScaledWidth();
+        int height = client.getWindow().getScaledHeight();
+        if (width != screenWidth || height != screenHeight) {
+            screenWidth = width;
+            screenHeight = height;
+            for (int i = 0; i < layers.size(); i++) {
+                layers.get(i).onResize(width, height);
+            }
+        }
+
+        // One buffer for every quad of every visible layer
+        matrix = context.getMatrices().peek().getPositionMatrix();
+        buffer = Tessellator.getInstance().getBuffer();
+        buffer.begin(VertexFormat.DrawMode.QUADS, VertexFormats.POSITION_COLOR_TEXTURE);
+        quadCount = 0;
+        try {
+            for (int i = 0; i < layers.size(); i++) {
+                Layer layer = layers.get(i);
+                if (layer.isVisible()) {
+                    layer.emitQuads(tickDelta);
+                }
+            }
+        } finally {
+            BufferBuilder.BuiltBuffer built = buffer.end();
+            buffer = null;
+            matrix = null;
+
+            if (quadCount > 0) {
+                RenderSystem.setShader(GameRenderer::getPositionColorTexProgram);
+                RenderSystem.setShaderTexture(0, ATLAS_ID);
+                RenderSystem.enableBlend();
+                RenderSystem.defaultBlendFunc();
+                BufferRenderer.drawWithGlobalProgram(built);
+                RenderSystem.disableBlend();
+            } else {
+                built.release();
+            }
+        }
+
+        for (int i = 0; i < layers.size(); i++) {
+            Layer layer = layers.get(i);
+            if (layer.isVisible()) {
+                layer.drawText(context, tickDelta);
+            }
+        }
+    }
+
+    /**
+     * Pack every sprite into one texture (shelf packing, rows left to right)
+     */
+    private static boolean buildAtlas() {
+        MinecraftClient client = MinecraftClient.getInstance();
+        NativeImage[] images = new NativeImage[ALL_SPRITES.size()];
+        NativeImage atlas = null;
+        try {
+            for (int i = 0; i < images.length; i++) {
+                Sprite sprite = ALL_SPRITES.get(i);
+                if (sprite.source == null) {
+                    // A small white square for solid fills
+                    images[i] = new NativeImage(NativeImage.Format.RGBA, 2, 2, false);
+                    images[i].fillRect(0, 0, 2, 2, 0xFFFFFFFF);
+                    continue;
+                }
+
+                var resourceOpt = client.getResourceManager().getResource(sprite.source);
+                if (resourceOpt.isEmpty()) {
+                    // Overlays check which textures exist, so a missing one just stays empty
+                    images[i] = new NativeImage(NativeImage.Format.RGBA, 1, 1, true);
+                    continue;
+                }
+                try (InputStream inputStream = resourceOpt.get().getInputStream()) {
+                    images[i] = NativeImage.read(NativeImage.Format.RGBA, inputStream);
+                }
+            }
+
+            // Place sprites in rows
+            int[] positionsX = new int[images.length];
+            int[] positionsY = new int[images.length];
+            int cursorX = GUTTER;
+            int cursorY = GUTTER;
+            int rowHeight = 0;
+            for (int i = 0; i < images.length; i++) {
+                int width = Math.min(images[i].getWidth(), ATLAS_WIDTH - 2 * GUTTER);
+                if (cursorX + width + GUTTER > ATLAS_WIDTH) {
+                    cursorX = GUTTER;
+                    cursorY += rowHeight + GUTTER;
+                    rowHeight = 0;
+                }
+                positionsX[i] = cursorX;
+                positionsY[i] = cursorY;
+                cursorX += width + GUTTER;
+                rowHeight = Math.max(rowHeight, images[i].getHeight());
+            }
+            int atlasHeight = cursorY + rowHeight + GUTTER;
+
+            atlas = new NativeImage(NativeImage.Format.RGBA, ATLAS_WIDTH, atlasHeight, true);
+            for (int i = 0; i < images.length; i++) {
+                NativeImage image = images[i];
+                int width = Math.min(image.getWidth(), ATLAS_WIDTH - 2 * GUTTER);
+                image.copyRect(atlas, 0, 0, positionsX[i], positionsY[i], width, image.getHeight(), false, false);
+
+                Sprite sprite = ALL_SPRITES.get(i);
+                if (sprite == WHITE) {
+                    // Sample the middle of the square so filtering never reaches the gutter
+                    sprite.u0 = sprite.u1 = (positionsX[i] + 1.0f) / ATLAS_WIDTH;
+                    sprite.v0 = sprite.v1 = (positionsY[i] + 1.0f) / atlasHeight;
+                } else {
+                    sprite.u0 = (float) positionsX[i] / ATLAS_WIDTH;
+                    sprite.v0 = (float) positionsY[i] / atlasHeight;
+                    sprite.u1 = (float) (positionsX[i] + width) / ATLAS_WIDTH;
+                    sprite.v1 = (float) (positionsY[i] + image.getHeight()) / atlasHeight;
+                }
+            }
+
+            // Replaces (and closes) any previous atlas; held once on behalf of all shown overlays
+            TextureCache.putCached(ATLAS_ID, new NativeImageBackedTexture(atlas), (long) ATLAS_WIDTH * atlasHeight * 4);
+            atlas = null;
+            atlasReady = true;
+            LOGGER.debug("Built attack HUD atlas {}x{} with {} sprites", ATLAS_WIDTH, atlasHeight, images.length);
+            return true;
+        } catch (Exception e) {
+            LOGGER.error("Failed to build attack HUD atlas: {}", e.getMessage());
+            atlasFailed = true;
+            return false;
+        } finally {
+            for (NativeImage image : images) {
+                if (image != null) image.close();
+            }
+            if (atlas != null) atlas.close();
+        }
+    }
+}
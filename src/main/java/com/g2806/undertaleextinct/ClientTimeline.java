@@ -0,0 +1,118 @@
+package com.g2806.undertaleextinct;
+
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+
+/**
+ * Small client-side timeline for overlay effects (fades, color sequences, slash frames).
+ * Delayed actions run on the client thread at the end of a client tick, and tweens are
+ * sampled while rendering with the partial tick, so effects stay smooth without any
+ * extra threads and all overlay state is only touched on the client thread.
+ */
+public class ClientTimeline {
+    private static long currentTick = 0;
+    private static long nextSequence = 0;
+
+    // Due tick first, then scheduling order
+    private static final PriorityQueue<Task> tasks = new PriorityQueue<>(
+            Comparator.comparingLong((Task task) -> task.dueTick).thenComparingLong(task -> task.sequence));
+
+    /**
+     * A delayed action that can be cancelled before it runs
+     */
+    public static final class Task {
+        private final Object owner;
+        private final long dueTick;
+        private final long sequence;
+        private final Runnable action;
+        private boolean cancelled = false;
+
+        private Task(Object owner, long dueTick, long sequence, Runnable action) {
+            this.owner = owner;
+            this.dueTick = dueTick;
+            this.sequence = sequence;
+            this.action = action;
+        }
+
+        public void cancel() {
+            cancelled = true;
+        }
+    }
+
+    /**
+     * Progress of an effect that started at a given tick, sampled with the render partial tick
+     */
+    public static final class Tween {
+        private final long startTick;
+        private final int durationTicks;
+
+        private Tween(long startTick, int durationTicks) {
+            this.startTick = startTick;
+            this.durationTicks = durationTicks;
+        }
+
+        /**
+         * Ticks since the tween started, including the partial tick being rendered
+         */
+        public float elapsedTicks(float tickDelta) {
+            return Math.max(0.0f, (currentTick - startTick) + tickDelta);
+        }
+
+        /**
+         * Progress from 0.0 to 1.0
+         */
+        public float progress(float tickDelta) {
+            if (durationTicks <= 0) return 1.0f;
+            return Math.min(1.0f, elapsedTicks(tickDelta) / durationTicks);
+        }
+
+        /**
+         * Index of the current step for effects that change every few ticks (e.g. animation frames)
+         */
+        public int step(float tickDelta, int ticksPerStep) {
+            return (int) (elapsedTicks(tickDelta) / Math.max(1, ticksPerStep));
+        }
+
+        public boolean isFinished() {
+            return currentTick - startTick >= durationTicks;
+        }
+    }
+
+    public static void register() {
+        ClientTickEvents.END_CLIENT_TICK.register(client -> {
+            currentTick++;
+
+            while (!tasks.isEmpty() && tasks.peek().dueTick <= currentTick) {
+                Task task = tasks.poll();
+                if (!task.cancelled) {
+                    task.action.run();
+                }
+            }
+        });
+    }
+
+    /**
+     * Run an action on the client thread after a number of client ticks (20 ticks = 1 second)
+     */
+    public static Task schedule(Object owner, int delayTicks, Runnable action) {
+        Task task = new Task(owner, currentTick + Math.max(1, delayTicks), nextSequence++, action);
+        tasks.add(task);
+        return task;
+    }
+
+    /**
+     * Start a tween lasting the given number of client ticks
+     */
+    public static Tween tween(int durationTicks) {
+        return new Tween(currentTick, durationTicks);
+    }
+
+    /**
+     * Cancel every pending action scheduled by an owner
+     */
+    public static void cancelAll(Object owner) {
+        tasks.removeIf(task -> task.owner == owner);
+    }
+}
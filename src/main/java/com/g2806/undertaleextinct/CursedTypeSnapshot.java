@@ -0,0 +1,94 @@
+package com.g2806.undertaleextinct;
+
+import net.minecraft.entity.EntityType;
+import net.minecraft.registry.Registries;
+import net.minecraft.util.Identifier;
+
+import java.util.BitSet;
+import java.util.Collection;
+
+/**
+ * Immutable snapshot of the cursed mob types, indexed by raw entity type registry id.
+ * Writers publish a new snapshot whenever the purged/extinct sets change, so hot-path
+ * readers only do a bit test instead of hashing identifiers.
+ */
+public final class CursedTypeSnapshot {
+    public static final CursedTypeSnapshot EMPTY = new CursedTypeSnapshot(new long[0], new long[0]);
+
+    private final long[] cursed;  // Purged or extinct
+    private final long[] extinct; // Extinct only
+
+    private CursedTypeSnapshot(long[] cursed, long[] extinct) {
+        this.cursed = cursed;
+        this.extinct = extinct;
+    }
+
+    /**
+     * Build a snapshot from the purged and extinct identifier sets.
+     * Identifiers that are not registered (removed mods, legacy names) are skipped.
+     */
+    public static CursedTypeSnapshot of(Collection<Identifier> purgedMobs, Collection<Identifier> extinctMobs) {
+        BitSet cursedBits = new BitSet();
+        BitSet extinctBits = new BitSet();
+
+        for (Identifier mobId : purgedMobs) {
+            int rawId = getRawId(mobId);
+            if (rawId >= 0) {
+                cursedBits.set(rawId);
+            }
+        }
+
+        for (Identifier mobId : extinctMobs) {
+            int rawId = getRawId(mobId);
+            if (rawId >= 0) {
+                cursedBits.set(rawId);
+                extinctBits.set(rawId);
+            }
+        }
+
+        return new CursedTypeSnapshot(cursedBits.toLongArray(), extinctBits.toLongArray());
+    }
+
+    private static int getRawId(Identifier mobId) {
+        // ENTITY_TYPE is a defaulted registry, so check membership before resolving
+        if (!Registries.ENTITY_TYPE.containsId(mobId)) {
+            return -1;
+        }
+        return Registries.ENTITY_TYPE.getRawId(Registries.ENTITY_TYPE.get(mobId));
+    }
+
+    private static boolean test(long[] bits, int rawId) {
+        if (rawId < 0) return false;
+        int word = rawId >>> 6;
+        return word < bits.length && (bits[word] & (1L << rawId)) != 0;
+    }
+
+    /**
+     * Check if a raw entity type id is purged or extinct
+     */
+    public boolean isCursed(int rawId) {
+        return test(cursed, rawId);
+    }
+
+    /**
+     * Check if a raw entity type id is extinct
+     */
+    public boolean isExtinct(int rawId) {
+        return test(extinct, rawId);
+    }
+
+    public boolean isCursed(EntityType<?> entityType) {
+        return isCursed(Registries.ENTITY_TYPE.getRawId(entityType));
+    }
+
+    public boolean isExtinct(EntityType<?> entityType) {
+        return isExtinct(Registries.ENTITY_TYPE.getRawId(entityType));
+    }
+
+    /**
+     * Check if no mob type is cursed at all
+     */
+    public boolean isEmpty() {
+        return cursed.length == 0;
+    }
+}
@@ -0,0 +1,436 @@
+package com.g2806.undertaleextinct;
+
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.minecraft.util.Identifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only write-ahead journal for the extinction state.
+ * Every change to the purged/extinct sets, kill counts, mode flags and threshold is
+ * appended as a small binary record (kills are aggregated per tick) and forced to disk
+ * about once per second. Each NBT snapshot starts a new journal generation, and
+ * generations older than the last written snapshot are deleted. On load the snapshot
+ * is read first and the remaining journals are replayed on top of it.
+ */
+public class ExtinctionJournal {
+    private static final Logger LOGGER = LoggerFactory.getLogger("ExtinctionJournal");
+
+    private static final String FILE_PREFIX = "undertaleextinct_data.";
+    private static final String FILE_SUFFIX = ".journal";
+    private static final int MAGIC = 0x55454A31; // "UEJ1"
+
+    // Force pending records to disk every 20 ticks (1 second)
+    private static final int SYNC_INTERVAL = 20;
+
+    // Record types
+    private static final byte KILLS = 1;
+    private static final byte KILL_COUNT = 2;
+    private static final byte CURSE_ADDED = 3;
+    private static final byte CURSE_REMOVED = 4;
+    private static final byte CURSES_CLEARED = 5;
+    private static final byte FLAGS = 6;
+    private static final byte THRESHOLD = 7;
+
+    // Server thread state: kills of the current tick and records not yet handed to the writer
+    private static final Object2IntOpenHashMap<Identifier> pendingKills = new Object2IntOpenHashMap<>();
+    private static final ByteArrayOutputStream pendingRecords = new ByteArrayOutputStream();
+    private static final ByteArrayOutputStream recordBuffer = new ByteArrayOutputStream();
+    private static final DataOutputStream record = new DataOutputStream(recordBuffer);
+
+    private static Path dataDir;
+    private static int generation;
+    private static ExecutorService writer;
+    private static int ticks = 0;
+
+    // Writer thread only
+    private static FileChannel channel;
+
+    /**
+     * Receives replayed records
+     */
+    public interface Handler {
+        void kills(Identifier mobId, int delta);
+
+        void killCount(Identifier mobId, int count);
+
+        void curseAdded(Identifier mobId, boolean extinct);
+
+        void curseRemoved(Identifier mobId);
+
+        void cursesCleared();
+
+        void flags(int flags);
+
+        void threshold(int threshold);
+    }
+
+    public static void register() {
+        ServerTickEvents.END_SERVER_TICK.register(server -> {
+            if (writer == null) return;
+            synchronized (ExtinctionJournal.class) {
+                flushKills();
+                if (++ticks >= SYNC_INTERVAL) {
+                    ticks = 0;
+                    submitPending();
+                }
+            }
+        });
+
+        // Registered after the persistence service, so the final snapshot has already rotated the journal
+        ServerLifecycleEvents.SERVER_STOPPING.register(server -> close());
+    }
+
+    /**
+     * Replay every journal generation at or after the given one, in order.
+     *
+     * @return the highest generation found, or fromGeneration - 1 if there is none
+     */
+    public static int replay(Path directory, int fromGeneration, Handler handler) {
+        int highest = fromGeneration - 1;
+        int records = 0;
+
+        for (int fileGeneration : listGenerations(directory)) {
+            if (fileGeneration < fromGeneration) continue;
+            highest = Math.max(highest, fileGeneration);
+
+            Path file = directory.resolve(FILE_PREFIX + fileGeneration + FILE_SUFFIX);
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+                if (in.readInt() != MAGIC || in.readInt() != fileGeneration) {
+                    LOGGER.warn("Ignoring journal with a bad header: {}", file);
+                    continue;
+                }
+                records += replayRecords(in, handler, file);
+            } catch (EOFException e) {
+                // Empty journal - created but nothing written yet
+            } catch (IOException e) {
+                LOGGER.error("Failed to replay journal {}: {}", file, e.getMessage());
+            }
+        }
+
+        if (records > 0) {
+            LOGGER.info("Replayed {} extinction journal records", records);
+        }
+        return highest;
+    }
+
+    private static int replayRecords(DataInputStream in, Handler handler, Path file) throws IOException {
+        int records = 0;
+        CRC32 crc = new CRC32();
+
+        while (true) {
+            int length;
+            int checksum;
+            byte[] payload;
+            try {
+                length = in.readInt();
+                checksum = in.readInt();
+                if (length <= 0 || length > 65536) break;
+                payload = new byte[length];
+                in.readFully(payload);
+            } catch (EOFException e) {
+                break;
+            }
+
+            crc.reset();
+            crc.update(payload);
+            if ((int) crc.getValue() != checksum) {
+                // Torn write from a crash - everything after it is unreliable
+                LOGGER.warn("Stopped replaying {} at a corrupt record", file);
+                break;
+            }
+
+            DataInputStream data = new DataInputStream(new ByteArrayInputStream(payload));
+            switch (data.readByte()) {
+                case KILLS -> handler.kills(new Identifier(data.readUTF()), data.readInt());
+                case KILL_COUNT -> handler.killCount(new Identifier(data.readUTF()), data.readInt());
+                case CURSE_ADDED -> handler.curseAdded(new Identifier(data.readUTF()), data.readBoolean());
+                case CURSE_REMOVED -> handler.curseRemoved(new Identifier(data.readUTF()));
+                case CURSES_CLEARED -> handler.cursesCleared();
+                case FLAGS -> handler.flags(data.readInt());
+                case THRESHOLD -> handler.threshold(data.readInt());
+                default -> LOGGER.warn("Skipping unknown journal record in {}", file);
+            }
+            records++;
+        }
+        return records;
+    }
+
+    /**
+     * Start journaling into a new generation. Called after the snapshot and older journals were loaded.
+     */
+    public static synchronized void open(Path directory, int newGeneration) {
+        close();
+
+        dataDir = directory;
+        generation = newGeneration;
+        ticks = 0;
+        pendingKills.clear();
+        pendingRecords.reset();
+
+        writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "UndertaleExtinct Journal");
+            thread.setDaemon(true);
+            return thread;
+        });
+        writer.execute(() -> openFile(directory, newGeneration));
+    }
+
+    /**
+     * Start a new generation for the snapshot being taken right now (server thread).
+     * Everything journaled so far is covered by that snapshot.
+     *
+     * @return the first generation NOT included in the snapshot
+     */
+    public static synchronized int rotate() {
+        if (writer == null) return generation;
+
+        flushKills();
+        submitPending();
+
+        int newGeneration = ++generation;
+        Path directory = dataDir;
+        writer.execute(() -> {
+            closeFile();
+            openFile(directory, newGeneration);
+        });
+        return newGeneration;
+    }
+
+    /**
+     * Delete generations older than the one a snapshot was written with
+     */
+    public static synchronized void deleteBefore(int snapshotGeneration) {
+        if (writer == null) return;
+
+        Path directory = dataDir;
+        writer.execute(() -> {
+            for (int fileGeneration : listGenerations(directory)) {
+                if (fileGeneration >= snapshotGeneration) continue;
+                try {
+                    Files.deleteIfExists(directory.resolve(FILE_PREFIX + fileGeneration + FILE_SUFFIX));
+                } catch (IOException e) {
+                    LOGGER.debug("Failed to delete old journal {}: {}", fileGeneration, e.getMessage());
+                }
+            }
+        });
+    }
+
+    public static synchronized void logKill(Identifier mobId) {
+        if (writer == null) return;
+        pendingKills.addTo(mobId, 1);
+    }
+
+    public static synchronized void logKillCount(Identifier mobId, int count) {
+        if (writer == null) return;
+        try {
+            beginRecord(KILL_COUNT);
+            record.writeUTF(mobId.toString());
+            record.writeInt(count);
+            endRecord();
+        } catch (IOException e) {
+            LOGGER.debug("Failed to journal kill count: {}", e.getMessage());
+        }
+    }
+
+    public static synchronized void logCurseAdded(Identifier mobId, boolean extinct) {
+        if (writer == null) return;
+        try {
+            beginRecord(CURSE_ADDED);
+            record.writeUTF(mobId.toString());
+            record.writeBoolean(extinct);
+            endRecord();
+        } catch (IOException e) {
+            LOGGER.debug("Failed to journal curse: {}", e.getMessage());
+        }
+    }
+
+    public static synchronized void logCurseRemoved(Identifier mobId) {
+        if (writer == null) return;
+        try {
+            beginRecord(CURSE_REMOVED);
+            record.writeUTF(mobId.toString());
+            endRecord();
+        } catch (IOException e) {
+            LOGGER.debug("Failed to journal curse removal: {}", e.getMessage());
+        }
+    }
+
+    public static synchronized void logCursesCleared() {
+        if (writer == null) return;
+        try {
+            beginRecord(CURSES_CLEARED);
+            endRecord();
+        } catch (IOException e) {
+            LOGGER.debug("Failed to journal curse reset: {}", e.getMessage());
+        }
+    }
+
+    public static synchronized void logFlags(int flags) {
+        if (writer == null) return;
+        try {
+            beginRecord(FLAGS);
+            record.writeInt(flags);
+            endRecord();
+        } catch (IOException e) {
+            LOGGER.debug("Failed to journal mode flags: {}", e.getMessage());
+        }
+    }
+
+    public static synchronized void logThreshold(int threshold) {
+        if (writer == null) return;
+        try {
+            beginRecord(THRESHOLD);
+            record.writeInt(threshold);
+            endRecord();
+        } catch (IOException e) {
+            LOGGER.debug("Failed to journal threshold: {}", e.getMessage());
+        }
+    }
+
+    private static void beginRecord(byte type) throws IOException {
+        // Kills from earlier in this tick go first so replay keeps the original order
+        if (type != KILLS) {
+            flushKills();
+        }
+        recordBuffer.reset();
+        record.writeByte(type);
+    }
+
+    private static void endRecord() throws IOException {
+        record.flush();
+        byte[] payload = recordBuffer.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+
+        DataOutputStream out = new DataOutputStream(pendingRecords);
+        out.writeInt(payload.length);
+        out.writeInt((int) crc.getValue());
+        out.write(payload);
+    }
+
+    private static void flushKills() {
+        if (pendingKills.isEmpty()) return;
+
+        try {
+            for (Object2IntMap.Entry<Identifier> entry : pendingKills.object2IntEntrySet()) {
+                beginRecord(KILLS);
+                record.writeUTF(entry.getKey().toString());
+                record.writeInt(entry.getIntValue());
+                endRecord();
+            }
+        } catch (IOException e) {
+            LOGGER.debug("Failed to journal kills: {}", e.getMessage());
+        }
+        pendingKills.clear();
+    }
+
+    private static void submitPending() {
+        if (pendingRecords.size() == 0) return;
+
+        byte[] bytes = pendingRecords.toByteArray();
+        pendingRecords.reset();
+        writer.execute(() -> append(bytes));
+    }
+
+    static void close() {
+        ExecutorService executor;
+        synchronized (ExtinctionJournal.class) {
+            executor = writer;
+            if (executor == null) return;
+
+            flushKills();
+            submitPending();
+            executor.execute(ExtinctionJournal::closeFile);
+            writer = null;
+        }
+
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                LOGGER.warn("Timed out waiting for the extinction journal to close");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void openFile(Path directory, int fileGeneration) {
+        Path file = directory.resolve(FILE_PREFIX + fileGeneration + FILE_SUFFIX);
+        try {
+            Files.createDirectories(directory);
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            if (channel.size() == 0) {
+                ByteBuffer header = ByteBuffer.allocate(8);
+                header.putInt(MAGIC).putInt(fileGeneration).flip();
+                while (header.hasRemaining()) {
+                    channel.write(header);
+                }
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            LOGGER.error("Failed to open extinction journal {}: {}", file, e.getMessage());
+            channel = null;
+        }
+    }
+
+    private static void append(byte[] bytes) {
+        if (channel == null) return;
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            LOGGER.error("Failed to append to extinction journal: {}", e.getMessage());
+        }
+    }
+
+    private static void closeFile() {
+        if (channel == null) return;
+        try {
+            channel.force(false);
+            channel.close();
+        } catch (IOException e) {
+            LOGGER.debug("Failed to close extinction journal: {}", e.getMessage());
+        }
+        channel = null;
+    }
+
+    private static List<Integer> listGenerations(Path directory) {
+        List<Integer> generations = new ArrayList<>();
+        if (!Files.isDirectory(directory)) return generations;
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, FILE_PREFIX + "*" + FILE_SUFFIX)) {
+            for (Path file : stream) {
+                String name = file.getFileName().toString();
+                try {
+                    generations.add(Integer.parseInt(name.substring(FILE_PREFIX.length(), name.length() - FILE_SUFFIX.length())));
+                } catch (NumberFormatException ignored) {
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.error("Failed to list extinction journals: {}", e.getMessage());
+        }
+        generations.sort(null);
+        return generations;
+    }
+}
@@ -0,0 +1,193 @@
+package com.g2806.undertaleextinct;
+
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.minecraft.entity.EntityType;
+import net.minecraft.entity.mob.MobEntity;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.world.ServerWorld;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+
+/**
+ * Resumable extinction sweeps that kill the remaining mobs of one or more types.
+ * Instead of scanning every world and killing every match in a single tick, a sweep
+ * visits one world at a time, collects all target types from the mob index in one
+ * pass and kills at most {@link ModConfig#getSweepEntitiesPerTick()} mobs per tick.
+ * Sweeps run one after another, report progress and can be cancelled; mobs whose curse
+ * was lifted in the meantime are left alone.
+ */
+public class ExtinctionSweep {
+    private static final Logger LOGGER = LoggerFactory.getLogger("ExtinctionSweep");
+
+    // Ticks between progress reports of a running sweep
+    private static final int PROGRESS_INTERVAL = 100;
+
+    // Pending sweeps in start order, only touched on the server thread
+    private static final Deque<Job> jobs = new ArrayDeque<>();
+
+    // Types targeted by any pending sweep - regular cursed cleanup leaves these to the sweep
+    private static volatile Set<EntityType<?>> sweepingTypes = Set.of();
+
+    /**
+     * Receives progress and completion of a sweep (called on the server thread)
+     */
+    public interface Listener {
+        default void onProgress(int killed, int estimatedTotal) {}
+
+        void onComplete(int killed, boolean cancelled);
+    }
+
+    private static class Job {
+        final String label;
+        final Set<EntityType<?>> targets;
+        final boolean spareProtected;
+        final Listener listener;
+        final Deque<ServerWorld> worlds = new ArrayDeque<>();
+        final Deque<MobEntity> queue = new ArrayDeque<>();
+        int estimatedTotal;
+        int killed;
+        int ticks;
+
+        Job(String label, Set<EntityType<?>> targets, boolean spareProtected, Listener listener) {
+            this.label = label;
+            this.targets = targets;
+            this.spareProtected = spareProtected;
+            this.listener = listener;
+        }
+    }
+
+    public static void register() {
+        ServerTickEvents.END_SERVER_TICK.register(ExtinctionSweep::tick);
+
+        ServerLifecycleEvents.SERVER_STOPPED.register(server -> {
+            jobs.clear();
+            sweepingTypes = Set.of();
+        });
+    }
+
+    /**
+     * Start sweeping all loaded worlds for the given types.
+     *
+     * @param spareProtected skip mobs tagged by the nether/overworld saved systems
+     */
+    public static void start(MinecraftServer server, String label, Collection<EntityType<?>> targets,
+                             boolean spareProtected, Listener listener) {
+        Job job = new Job(label, new HashSet<>(targets), spareProtected, listener);
+
+        for (ServerWorld world : server.getWorlds()) {
+            job.worlds.add(world);
+            for (EntityType<?> entityType : job.targets) {
+                job.estimatedTotal += MobTypeIndex.count(world, entityType);
+            }
+        }
+
+        jobs.add(job);
+        updateSweepingTypes();
+        LOGGER.info("Started extinction sweep '{}' for {} types (~{} mobs)", label, job.targets.size(), job.estimatedTotal);
+    }
+
+    /**
+     * Cancel every pending sweep. Returns the number of sweeps cancelled.
+     */
+    public static int cancelAll() {
+        int cancelled = jobs.size();
+        while (!jobs.isEmpty()) {
+            finish(jobs.poll(), true);
+        }
+        updateSweepingTypes();
+        return cancelled;
+    }
+
+    /**
+     * Check if a type is still waiting to be swept
+     */
+    public static boolean isSweeping(EntityType<?> entityType) {
+        return sweepingTypes.contains(entityType);
+    }
+
+    public static boolean isRunning() {
+        return !jobs.isEmpty();
+    }
+
+    /**
+     * Describe the pending sweeps for the status command
+     */
+    public static List<String> describe() {
+        List<String> lines = new ArrayList<>();
+        for (Job job : jobs) {
+            lines.add(job.label + ": " + job.killed + "/~" + Math.max(job.killed, job.estimatedTotal)
+                    + " killed, " + job.worlds.size() + " worlds left");
+        }
+        return lines;
+    }
+
+    private static void tick(MinecraftServer server) {
+        Job job = jobs.peek();
+        if (job == null) return;
+
+        int budget = ModConfig.getInstance().getSweepEntitiesPerTick();
+        job.ticks++;
+
+        try {
+            while (budget > 0) {
+                MobEntity mobEntity = job.queue.poll();
+                if (mobEntity == null) {
+                    // Current world is done - collect all target types of the next world in one pass
+                    ServerWorld world = job.worlds.poll();
+                    if (world == null) break;
+                    for (EntityType<?> entityType : job.targets) {
+                        MobTypeIndex.forEachOfType(world, entityType, job.queue::add);
+                    }
+                    continue;
+                }
+
+                if (mobEntity.isRemoved() || !mobEntity.isAlive()) continue;
+
+                // The curse was lifted while the sweep was running
+                if (!UndertaleExtinct.isMobPurged(mobEntity.getType())) continue;
+
+                // Don't kill mobs that were spawned as part of nether/overworld saved system
+                if (job.spareProtected && MobMarker.has(mobEntity, MobMarker.NETHER_SAVED_SPAWN | MobMarker.SPARED)) {
+                    continue;
+                }
+
+                mobEntity.damage(mobEntity.getDamageSources().genericKill(), Float.MAX_VALUE);
+                job.killed++;
+                budget--;
+            }
+        } catch (Exception e) {
+            LOGGER.error("Extinction sweep '{}' failed: {}", job.label, e.getMessage());
+            job.worlds.clear();
+            job.queue.clear();
+        }
+
+        if (job.queue.isEmpty() && job.worlds.isEmpty()) {
+            jobs.poll();
+            updateSweepingTypes();
+            finish(job, false);
+        } else if (job.ticks % PROGRESS_INTERVAL == 0) {
+            job.listener.onProgress(job.killed, Math.max(job.killed, job.estimatedTotal));
+        }
+    }
+
+    private static void finish(Job job, boolean cancelled) {
+        LOGGER.info("Extinction sweep '{}' {} after {} ticks: {} mobs killed",
+                job.label, cancelled ? "cancelled" : "finished", job.ticks, job.killed);
+        try {
+            job.listener.onComplete(job.killed, cancelled);
+        } catch (Exception e) {
+            LOGGER.debug("Sweep listener failed: {}", e.getMessage());
+        }
+    }
+
+    private static void updateSweepingTypes() {
+        Set<EntityType<?>> types = new HashSet<>();
+        for (Job job : jobs) {
+            types.addAll(job.targets);
+        }
+        sweepingTypes = types;
+    }
+}
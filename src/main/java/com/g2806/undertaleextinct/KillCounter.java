@@ -0,0 +1,180 @@
+package com.g2806.undertaleextinct;
+
+import net.minecraft.entity.EntityType;
+import net.minecraft.registry.Registries;
+import net.minecraft.util.Identifier;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Per-type kill counters for the purge system, indexed by raw entity type registry id.
+ * Increments are a single atomic add with no boxing, and each type's extinction can be
+ * claimed exactly once no matter how many kills cross the threshold at the same time.
+ */
+public class KillCounter {
+    // Kill count per raw entity type id
+    private static volatile AtomicIntegerArray counts = new AtomicIntegerArray(0);
+
+    // 1 once a type's extinction has been claimed, 0 otherwise
+    private static volatile AtomicIntegerArray extinctionClaims = new AtomicIntegerArray(0);
+
+    // Saved counts for ids that are not registered (removed mods), kept so saving doesn't drop them
+    private static final Map<Identifier, Integer> unresolvedCounts = new ConcurrentHashMap<>();
+
+    /**
+     * Count one kill of a mob type and return the new total
+     */
+    public static int increment(EntityType<?> entityType) {
+        int rawId = Registries.ENTITY_TYPE.getRawId(entityType);
+        if (rawId < 0) return 0;
+        return ensureCapacity(rawId).incrementAndGet(rawId);
+    }
+
+    /**
+     * Get the current kill count of a mob type
+     */
+    public static int get(EntityType<?> entityType) {
+        int rawId = Registries.ENTITY_TYPE.getRawId(entityType);
+        AtomicIntegerArray current = counts;
+        return rawId >= 0 && rawId < current.length() ? current.get(rawId) : 0;
+    }
+
+    /**
+     * Set the kill count of a mob type (unregistered identifiers are kept as-is for saving)
+     */
+    public static void set(Identifier mobId, int count) {
+        int rawId = getRawId(mobId);
+        if (rawId < 0) {
+            unresolvedCounts.put(mobId, count);
+            return;
+        }
+        ensureCapacity(rawId).set(rawId, count);
+    }
+
+    /**
+     * Add to the kill count of a mob type (used when replaying the journal)
+     */
+    public static void add(Identifier mobId, int delta) {
+        int rawId = getRawId(mobId);
+        if (rawId < 0) {
+            unresolvedCounts.merge(mobId, delta, Integer::sum);
+            return;
+        }
+        ensureCapacity(rawId).addAndGet(rawId, delta);
+    }
+
+    /**
+     * Claim the extinction of a mob type. Returns true for exactly one caller
+     * until the type is reset.
+     */
+    public static boolean tryClaimExtinction(EntityType<?> entityType) {
+        int rawId = Registries.ENTITY_TYPE.getRawId(entityType);
+        if (rawId < 0) return false;
+        ensureCapacity(rawId);
+        return extinctionClaims.compareAndSet(rawId, 0, 1);
+    }
+
+    /**
+     * Reset the kill count and extinction claim of a single mob type
+     */
+    public static void reset(Identifier mobId) {
+        int rawId = getRawId(mobId);
+        if (rawId < 0) {
+            unresolvedCounts.remove(mobId);
+            return;
+        }
+        AtomicIntegerArray currentCounts = counts;
+        AtomicIntegerArray currentClaims = extinctionClaims;
+        if (rawId < currentCounts.length()) {
+            currentCounts.set(rawId, 0);
+        }
+        if (rawId < currentClaims.length()) {
+            currentClaims.set(rawId, 0);
+        }
+    }
+
+    /**
+     * Reset every kill count and extinction claim
+     */
+    public static synchronized void clear() {
+        counts = new AtomicIntegerArray(counts.length());
+        extinctionClaims = new AtomicIntegerArray(extinctionClaims.length());
+        unresolvedCounts.clear();
+    }
+
+    /**
+     * Check if no kills have been counted at all
+     */
+    public static boolean isEmpty() {
+        if (!unresolvedCounts.isEmpty()) return false;
+        AtomicIntegerArray current = counts;
+        for (int i = 0; i < current.length(); i++) {
+            if (current.get(i) != 0) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Export the non-zero kill counts by identifier, for saving and display
+     */
+    public static Map<Identifier, Integer> snapshot() {
+        Map<Identifier, Integer> snapshot = new HashMap<>(unresolvedCounts);
+        AtomicIntegerArray current = counts;
+        for (int rawId = 0; rawId < current.length(); rawId++) {
+            int count = current.get(rawId);
+            if (count != 0) {
+                EntityType<?> entityType = Registries.ENTITY_TYPE.get(rawId);
+                if (entityType != null) {
+                    snapshot.put(Registries.ENTITY_TYPE.getId(entityType), count);
+                }
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Replace all kill counts with previously saved ones
+     */
+    public static synchronized void load(Map<Identifier, Integer> savedCounts) {
+        clear();
+        for (Map.Entry<Identifier, Integer> entry : savedCounts.entrySet()) {
+            set(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private static int getRawId(Identifier mobId) {
+        // ENTITY_TYPE is a defaulted registry, so check membership before resolving
+        if (mobId == null || !Registries.ENTITY_TYPE.containsId(mobId)) {
+            return -1;
+        }
+        return Registries.ENTITY_TYPE.getRawId(Registries.ENTITY_TYPE.get(mobId));
+    }
+
+    private static AtomicIntegerArray ensureCapacity(int rawId) {
+        AtomicIntegerArray current = counts;
+        if (rawId < current.length()) return current;
+        return grow(rawId);
+    }
+
+    private static synchronized AtomicIntegerArray grow(int rawId) {
+        // The registry is frozen after startup, so this normally runs once
+        AtomicIntegerArray current = counts;
+        if (rawId < current.length()) return current;
+
+        int size = Math.max(rawId + 1, Registries.ENTITY_TYPE.size());
+        AtomicIntegerArray grownCounts = new AtomicIntegerArray(size);
+        AtomicIntegerArray grownClaims = new AtomicIntegerArray(size);
+        for (int i = 0; i < current.length(); i++) {
+            grownCounts.set(i, current.get(i));
+        }
+        for (int i = 0; i < extinctionClaims.length(); i++) {
+            grownClaims.set(i, extinctionClaims.get(i));
+        }
+        extinctionClaims = grownClaims;
+        counts = grownCounts;
+        return grownCounts;
+    }
+}
@@ -0,0 +1,109 @@
+package com.g2806.undertaleextinct;
+
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.minecraft.entity.mob.MobEntity;
+import net.minecraft.registry.Registries;
+import net.minecraft.util.Identifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+
+/**
+ * Aggregated logging for the per-mob events of the hot paths (removals on load and tick,
+ * saved-mode effects). Each event is only counted per world and mob type; once per interval
+ * one summary line per event kind is logged, so the log volume stays the same however many
+ * mobs spawn. The single events are still available at TRACE. Server thread only.
+ */
+public class MobEventLog {
+    private static final Logger LOGGER = LoggerFactory.getLogger("MobEventLog");
+
+    // Most mob types listed in one summary line, the rest are folded into "+N more"
+    private static final int MAX_ENTRIES_PER_LINE = 10;
+
+    public enum Event {
+        INSTANT_REMOVED("Instantly removed extinct mobs"),
+        TICK_REMOVED("Tick-removed extinct mobs"),
+        PROTECTED("Protected nether saved mobs from extinction"),
+        NETHER_REMOVED("Removed existing dangerous nether creatures"),
+        NETHER_EFFECTS("Applied nether saved effects");
+
+        private final String label;
+
+        Event(String label) {
+            this.label = label;
+        }
+    }
+
+    // Counts per event, world and mob type since the last summary
+    private static final Map<Event, Map<Identifier, Map<Identifier, int[]>>> counts = new EnumMap<>(Event.class);
+    private static int ticksSinceSummary = 0;
+
+    public static void register() {
+        ServerTickEvents.END_SERVER_TICK.register(server -> {
+            if (++ticksSinceSummary >= ModConfig.getInstance().getLogSummaryIntervalSeconds() * 20) {
+                flush();
+            }
+        });
+
+        // Don't lose the last partial interval
+        ServerLifecycleEvents.SERVER_STOPPING.register(server -> flush());
+    }
+
+    /**
+     * Count one event for a mob; logged on its own only at TRACE
+     */
+    public static void record(Event event, MobEntity mobEntity) {
+        Identifier worldId = mobEntity.getWorld().getRegistryKey().getValue();
+        Identifier mobId = Registries.ENTITY_TYPE.getId(mobEntity.getType());
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace("{}: {} at {} in {}", event.label, mobId, mobEntity.getBlockPos(), worldId);
+        }
+
+        counts.computeIfAbsent(event, e -> new HashMap<>())
+                .computeIfAbsent(worldId, w -> new HashMap<>())
+                .computeIfAbsent(mobId, m -> new int[1])[0]++;
+    }
+
+    /**
+     * Log one summary line per event kind seen since the last summary and start over
+     */
+    public static void flush() {
+        int seconds = (ticksSinceSummary + 19) / 20;
+        ticksSinceSummary = 0;
+        if (counts.isEmpty()) return;
+
+        for (Map.Entry<Event, Map<Identifier, Map<Identifier, int[]>>> eventEntry : counts.entrySet()) {
+            List<String> entries = new ArrayList<>();
+            List<Integer> entryCounts = new ArrayList<>();
+            int total = 0;
+            for (Map.Entry<Identifier, Map<Identifier, int[]>> worldEntry : eventEntry.getValue().entrySet()) {
+                for (Map.Entry<Identifier, int[]> mobEntry : worldEntry.getValue().entrySet()) {
+                    int count = mobEntry.getValue()[0];
+                    entries.add(mobEntry.getKey() + " x" + count + " in " + worldEntry.getKey());
+                    entryCounts.add(count);
+                    total += count;
+                }
+            }
+
+            // Biggest first
+            Integer[] order = new Integer[entries.size()];
+            for (int i = 0; i < order.length; i++) order[i] = i;
+            Arrays.sort(order, (a, b) -> Integer.compare(entryCounts.get(b), entryCounts.get(a)));
+
+            StringBuilder line = new StringBuilder();
+            for (int i = 0; i < Math.min(order.length, MAX_ENTRIES_PER_LINE); i++) {
+                if (i > 0) line.append(", ");
+                line.append(entries.get(order[i]));
+            }
+            if (order.length > MAX_ENTRIES_PER_LINE) {
+                line.append(", +").append(order.length - MAX_ENTRIES_PER_LINE).append(" more");
+            }
+
+            LOGGER.info("{} in the last {}s: {} total - {}", eventEntry.getKey().label, seconds, total, line);
+        }
+        counts.clear();
+    }
+}
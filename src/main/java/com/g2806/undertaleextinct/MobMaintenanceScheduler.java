@@ -0,0 +1,101 @@
+package com.g2806.undertaleextinct;
+
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
+import net.minecraft.entity.mob.MobEntity;
+import net.minecraft.server.world.ServerWorld;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Spreads periodic saved-mode maintenance across ticks.
+ * Each mob is handled on the tick matching its UUID slot instead of every mob
+ * on the same tick, and the work done per tick is capped by a nanosecond budget
+ * from {@link ModConfig}. Work that does not fit is deferred to the next tick.
+ */
+public class MobMaintenanceScheduler {
+    private static final Logger LOGGER = LoggerFactory.getLogger("MobMaintenanceScheduler");
+
+    // Maintenance passes (combinable bit flags)
+    public static final int NETHER_PASS = 1;        // Every 100 ticks - handleExistingNetherMob
+    public static final int OVERWORLD_PASS = 2;     // Every 100 ticks - handleExistingOverworldMob
+    public static final int OVERWORLD_EFFECTS = 4;  // Every 20 ticks - applyOverworldSavedEffects
+
+    private static final int LONG_PERIOD = MobTypeIndex.SLOT_COUNT; // 100 ticks
+    private static final int SHORT_PERIOD = 20;
+
+    // Deferred work per world, one entry per mob with its merged passes
+    private static final Map<ServerWorld, LinkedHashMap<MobEntity, Integer>> backlogs = new ConcurrentHashMap<>();
+
+    /**
+     * Performs the requested passes on a single mob
+     */
+    @FunctionalInterface
+    public interface Worker {
+        void run(MobEntity mobEntity, int passes);
+    }
+
+    public static void register() {
+        ServerWorldEvents.UNLOAD.register((server, world) -> backlogs.remove(world));
+        ServerLifecycleEvents.SERVER_STOPPED.register(server -> backlogs.clear());
+    }
+
+    /**
+     * Queue this tick's slots and run as much queued work as the tick budget allows.
+     *
+     * @param longPasses passes that run once every 100 ticks per mob
+     * @param shortPasses passes that run once every 20 ticks per mob
+     */
+    public static void tick(ServerWorld world, int longPasses, int shortPasses, Worker worker) {
+        LinkedHashMap<MobEntity, Integer> backlog = backlogs.computeIfAbsent(world, w -> new LinkedHashMap<>());
+
+        if (longPasses != 0 || shortPasses != 0) {
+            int longSlot = (int) (world.getTime() % LONG_PERIOD);
+
+            // Every slot congruent to this tick (mod 20) is due for the short passes,
+            // and exactly one of them is also due for the long passes
+            for (int slot = longSlot % SHORT_PERIOD; slot < LONG_PERIOD; slot += SHORT_PERIOD) {
+                int passes = shortPasses | (slot == longSlot ? longPasses : 0);
+                if (passes == 0) continue;
+
+                MobTypeIndex.forEachInSlot(world, slot, mobEntity -> backlog.merge(mobEntity, passes, (a, b) -> a | b));
+            }
+        }
+
+        if (backlog.isEmpty()) return;
+
+        long budget = ModConfig.getInstance().getMaintenanceTickBudgetNanos();
+        long start = System.nanoTime();
+        int processed = 0;
+
+        Iterator<Map.Entry<MobEntity, Integer>> iterator = backlog.entrySet().iterator();
+        while (iterator.hasNext()) {
+            // Always make progress, then stop once the budget is spent
+            if (processed > 0 && System.nanoTime() - start >= budget) {
+                break;
+            }
+
+            Map.Entry<MobEntity, Integer> entry = iterator.next();
+            iterator.remove();
+
+            MobEntity mobEntity = entry.getKey();
+            if (mobEntity.isRemoved() || !mobEntity.isAlive()) continue;
+
+            try {
+                worker.run(mobEntity, entry.getValue());
+            } catch (Exception e) {
+                LOGGER.debug("Maintenance failed for mob {}: {}", mobEntity.getUuid(), e.getMessage());
+            }
+            processed++;
+        }
+
+        if (!backlog.isEmpty()) {
+            LOGGER.debug("Deferred {} mob maintenance tasks to next tick in {}", backlog.size(), world.getRegistryKey().getValue());
+        }
+    }
+}
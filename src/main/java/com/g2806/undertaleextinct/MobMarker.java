@@ -0,0 +1,84 @@
+package com.g2806.undertaleextinct;
+
+import net.minecraft.entity.mob.MobEntity;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.nbt.NbtElement;
+
+/**
+ * Bit flags the mod attaches to mobs in place of command tags. Stored in a field added to
+ * {@link MobEntity} by {@code MobEntityMixin} and saved under a single NBT key, so checking
+ * a mark is a field read instead of a string set lookup. Mobs saved with the old
+ * "nether_saved_spawn" and "spared" command tags are converted when they load.
+ */
+public class MobMarker {
+    // Spawned or kept by the nether saved system - protected from the extinction system
+    public static final int NETHER_SAVED_SPAWN = 1;
+    // Made peaceful by overworld saved mode and put on the spared team
+    public static final int SPARED = 2;
+
+    public static final String NBT_KEY = "UndertaleExtinctMarkers";
+
+    // Command tags the marks replace, indexed by bit
+    private static final String[] LEGACY_TAGS = {"nether_saved_spawn", "spared"};
+
+    /**
+     * Implemented by every {@link MobEntity} through the mixin
+     */
+    public interface Holder {
+        int undertaleextinct$getMarkers();
+
+        void undertaleextinct$setMarkers(int markers);
+    }
+
+    /**
+     * Whether the mob has the mark, or any of several marks ORed together
+     */
+    public static boolean has(MobEntity mobEntity, int marker) {
+        return (((Holder) mobEntity).undertaleextinct$getMarkers() & marker) != 0;
+    }
+
+    public static void add(MobEntity mobEntity, int marker) {
+        Holder holder = (Holder) mobEntity;
+        holder.undertaleextinct$setMarkers(holder.undertaleextinct$getMarkers() | marker);
+    }
+
+    public static void remove(MobEntity mobEntity, int marker) {
+        Holder holder = (Holder) mobEntity;
+        holder.undertaleextinct$setMarkers(holder.undertaleextinct$getMarkers() & ~marker);
+    }
+
+    /**
+     * Marks of a saved entity, including the old command tags it may still carry
+     */
+    public static int fromNbt(NbtCompound entityNbt) {
+        int markers = entityNbt.getByte(NBT_KEY) & 0xFF;
+        if (entityNbt.contains("Tags", NbtElement.LIST_TYPE)) {
+            var tags = entityNbt.getList("Tags", NbtElement.STRING_TYPE);
+            for (int i = 0; i < tags.size(); i++) {
+                markers |= legacyMarker(tags.getString(i));
+            }
+        }
+        return markers;
+    }
+
+    /**
+     * Move the old command tags of a freshly loaded mob over to its marks
+     */
+    public static void migrateCommandTags(MobEntity mobEntity) {
+        var tags = mobEntity.getCommandTags();
+        if (tags.isEmpty()) return;
+
+        for (int bit = 0; bit < LEGACY_TAGS.length; bit++) {
+            if (tags.remove(LEGACY_TAGS[bit])) {
+                add(mobEntity, 1 << bit);
+            }
+        }
+    }
+
+    private static int legacyMarker(String tag) {
+        for (int bit = 0; bit < LEGACY_TAGS.length; bit++) {
+            if (LEGACY_TAGS[bit].equals(tag)) return 1 << bit;
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,168 @@
+package com.g2806.undertaleextinct;
+
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerEntityEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
+import net.minecraft.entity.EntityType;
+import net.minecraft.entity.mob.MobEntity;
+import net.minecraft.server.world.ServerWorld;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Live index of loaded mobs per world, grouped by entity type.
+ * Kept up to date through entity load/unload events so tick handlers only
+ * visit the mob types they care about instead of every entity in the world.
+ * Mobs are also spread over {@link #SLOT_COUNT} slots by UUID hash so periodic
+ * work can be time-sliced across ticks.
+ */
+public class MobTypeIndex {
+    private static final Logger LOGGER = LoggerFactory.getLogger("MobTypeIndex");
+
+    // Number of UUID hash slots (one slot per tick of a 100 tick cycle)
+    public static final int SLOT_COUNT = 100;
+
+    // Per-world buckets of live mobs keyed by entity type, plus UUID slots
+    private static final Map<ServerWorld, WorldIndex> worldIndexes = new ConcurrentHashMap<>();
+
+    private static class WorldIndex {
+        final Map<EntityType<?>, Set<MobEntity>> byType = new HashMap<>();
+        final List<Set<MobEntity>> slots = new ArrayList<>(SLOT_COUNT);
+
+        WorldIndex() {
+            for (int i = 0; i < SLOT_COUNT; i++) {
+                slots.add(new HashSet<>());
+            }
+        }
+    }
+
+    private static final EntityType<?>[] NO_TYPES = new EntityType<?>[0];
+    private static final MobEntity[] NO_MOBS = new MobEntity[0];
+
+    /**
+     * Register the load/unload listeners that keep the index in sync.
+     * Must be called before any other ENTITY_LOAD listener that may discard mobs.
+     */
+    public static void register() {
+        ServerEntityEvents.ENTITY_LOAD.register((entity, world) -> {
+            if (entity instanceof MobEntity mobEntity) {
+                add(mobEntity, world);
+            }
+        });
+
+        ServerEntityEvents.ENTITY_UNLOAD.register((entity, world) -> {
+            if (entity instanceof MobEntity mobEntity) {
+                remove(mobEntity, world);
+            }
+        });
+
+        // Drop whole worlds when they unload or the server stops
+        ServerWorldEvents.UNLOAD.register((server, world) -> worldIndexes.remove(world));
+        ServerLifecycleEvents.SERVER_STOPPED.register(server -> worldIndexes.clear());
+
+        LOGGER.info("Registered per-type mob index");
+    }
+
+    private static void add(MobEntity mobEntity, ServerWorld world) {
+        // A mob discarded by an earlier load listener must not be re-added
+        if (mobEntity.isRemoved()) return;
+
+        WorldIndex index = worldIndexes.computeIfAbsent(world, w -> new WorldIndex());
+        index.byType.computeIfAbsent(mobEntity.getType(), t -> new HashSet<>()).add(mobEntity);
+        index.slots.get(getSlot(mobEntity)).add(mobEntity);
+    }
+
+    private static void remove(MobEntity mobEntity, ServerWorld world) {
+        WorldIndex index = worldIndexes.get(world);
+        if (index == null) return;
+
+        Set<MobEntity> mobs = index.byType.get(mobEntity.getType());
+        if (mobs != null) {
+            mobs.remove(mobEntity);
+        }
+        index.slots.get(getSlot(mobEntity)).remove(mobEntity);
+    }
+
+    /**
+     * Get the time slice slot (0 to SLOT_COUNT - 1) a mob belongs to
+     */
+    public static int getSlot(MobEntity mobEntity) {
+        return Math.floorMod(mobEntity.getUuid().hashCode(), SLOT_COUNT);
+    }
+
+    /**
+     * Get the entity types that currently have (or recently had) loaded mobs in a world
+     */
+    public static EntityType<?>[] getTypes(ServerWorld world) {
+        WorldIndex index = worldIndexes.get(world);
+        if (index == null || index.byType.isEmpty()) return NO_TYPES;
+        return index.byType.keySet().toArray(NO_TYPES);
+    }
+
+    /**
+     * Visit every live mob of a given type in a world.
+     * Iterates a snapshot, so the action may discard or spawn mobs safely.
+     */
+    public static void forEachOfType(ServerWorld world, EntityType<?> entityType, Consumer<MobEntity> action) {
+        WorldIndex index = worldIndexes.get(world);
+        if (index == null) return;
+
+        Set<MobEntity> mobs = index.byType.get(entityType);
+        if (mobs == null || mobs.isEmpty()) return;
+
+        visit(mobs, mobs.toArray(NO_MOBS), action);
+    }
+
+    /**
+     * Visit every live mob in a UUID slot of a world
+     */
+    public static void forEachInSlot(ServerWorld world, int slot, Consumer<MobEntity> action) {
+        WorldIndex index = worldIndexes.get(world);
+        if (index == null) return;
+
+        Set<MobEntity> mobs = index.slots.get(slot);
+        if (mobs.isEmpty()) return;
+
+        visit(mobs, mobs.toArray(NO_MOBS), action);
+    }
+
+    /**
+     * Visit every live mob in a world, regardless of type
+     */
+    public static void forEachMob(ServerWorld world, Consumer<MobEntity> action) {
+        WorldIndex index = worldIndexes.get(world);
+        if (index == null) return;
+
+        for (EntityType<?> entityType : index.byType.keySet().toArray(NO_TYPES)) {
+            forEachOfType(world, entityType, action);
+        }
+    }
+
+    private static void visit(Set<MobEntity> mobs, MobEntity[] snapshot, Consumer<MobEntity> action) {
+        for (MobEntity mobEntity : snapshot) {
+            if (mobEntity.isRemoved()) {
+                // Missed an unload event - self-heal the bucket
+                mobs.remove(mobEntity);
+                continue;
+            }
+            if (mobEntity.isAlive()) {
+                action.accept(mobEntity);
+            }
+        }
+    }
+
+    /**
+     * Count loaded mobs of a given type in a world
+     */
+    public static int count(ServerWorld world, EntityType<?> entityType) {
+        WorldIndex index = worldIndexes.get(world);
+        if (index == null) return 0;
+
+        Set<MobEntity> mobs = index.byType.get(entityType);
+        return mobs != null ? mobs.size() : 0;
+    }
+}
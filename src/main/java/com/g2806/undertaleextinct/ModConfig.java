@@ -23,6 +23,13 @@ public class ModConfig {
     public boolean showExtinctionNotifications = true;
     public boolean showSaveWorldNotifications = true;
     public boolean showPurgeNotifications = true;
+    public long maintenanceTickBudgetNanos = 2_000_000L; // 2 ms of saved-mode mob maintenance per world tick
+    public int sweepEntitiesPerTick = 64; // Mobs killed per server tick by an extinction sweep
+    public int animationFps = 10; // Playback speed of the extinction animation
+    public int textureCacheBudgetMb = 64; // Texture memory kept for unused animation and overlay textures
+    public boolean profilerEnabled = true; // Time the mod's server callbacks for /undertaleprofile
+    public int logSummaryIntervalSeconds = 60; // How often counted mob removals are summarized in the log
+    public boolean sparedTeamEnabled = true; // Keep spared mobs on the "spared" scoreboard team (off: damage check only)
 
     private ModConfig() {}
 
@@ -116,6 +123,80 @@ public class ModConfig {
         save();
     }
 
+    public long getMaintenanceTickBudgetNanos() {
+        return maintenanceTickBudgetNanos;
+    }
+
+    public void setMaintenanceTickBudgetNanos(long nanos) {
+        // Clamp between 0.1 ms and 50 ms (a full tick)
+        this.maintenanceTickBudgetNanos = Math.max(100_000L, Math.min(50_000_000L, nanos));
+        save();
+    }
+
+    public int getSweepEntitiesPerTick() {
+        // Hand-edited files aren't clamped - a sweep without budget would never finish
+        return Math.max(1, Math.min(4096, sweepEntitiesPerTick));
+    }
+
+    public void setSweepEntitiesPerTick(int count) {
+        // Clamp between 1 and 4096 mobs per tick
+        this.sweepEntitiesPerTick = Math.max(1, Math.min(4096, count));
+        save();
+    }
+
+    public int getAnimationFps() {
+        // Hand-edited files aren't clamped - at 0 FPS the animation would never end
+        return Math.max(1, Math.min(60, animationFps));
+    }
+
+    public void setAnimationFps(int fps) {
+        // Clamp between 1 and 60 frames per second
+        this.animationFps = Math.max(1, Math.min(60, fps));
+        save();
+    }
+
+    public int getTextureCacheBudgetMb() {
+        return textureCacheBudgetMb;
+    }
+
+    public long getTextureCacheBudgetBytes() {
+        return textureCacheBudgetMb * 1024L * 1024L;
+    }
+
+    public void setTextureCacheBudgetMb(int megabytes) {
+        // Clamp between 0 (nothing kept once unused) and 1024 MB
+        this.textureCacheBudgetMb = Math.max(0, Math.min(1024, megabytes));
+        save();
+    }
+
+    public boolean isProfilerEnabled() {
+        return profilerEnabled;
+    }
+
+    public void setProfilerEnabled(boolean enabled) {
+        this.profilerEnabled = enabled;
+        save();
+    }
+
+    public int getLogSummaryIntervalSeconds() {
+        return logSummaryIntervalSeconds;
+    }
+
+    public void setLogSummaryIntervalSeconds(int seconds) {
+        // Clamp between 5 seconds and 1 hour
+        this.logSummaryIntervalSeconds = Math.max(5, Math.min(3600, seconds));
+        save();
+    }
+
+    public boolean isSparedTeamEnabled() {
+        return sparedTeamEnabled;
+    }
+
+    public void setSparedTeamEnabled(boolean enabled) {
+        this.sparedTeamEnabled = enabled;
+        save();
+    }
+
     // Helper method to get attack bar speed as float for use in game code
     public float getAttackBarSpeedFloat() {
         return (float) attackBarSpeed;
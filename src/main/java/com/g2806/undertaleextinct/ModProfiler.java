@@ -0,0 +1,353 @@
+package com.g2806.undertaleextinct;
+
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Lightweight timing of the mod's server callbacks.
+ * Callbacks bracket their work with {@link #begin()} and {@link #end}. While enabled, every
+ * timing goes into a log-linear histogram (HDR style: exact below 16 ns, then 16 sub-buckets
+ * per power of two, about 6% precision) kept in one-second slots for the last minute, next to
+ * counters of the entities the callbacks visited, discarded and modified. A recording (used by
+ * the load test) additionally sums up the time per section for each server tick. When neither
+ * is on, begin/end only read a flag. Server thread only.
+ */
+public class ModProfiler {
+    /**
+     * The timed callbacks. Sections can be nested (the passes are part of END_WORLD_TICK).
+     */
+    public enum Section {
+        AFTER_DEATH("AFTER_DEATH"),
+        ENTITY_LOAD("ENTITY_LOAD"),
+        WORLD_TICK("END_WORLD_TICK"),
+        MAIN_PASS("- main pass"),
+        NEUTRALIZATION_PASS("- neutralization pass"),
+        RAID_DISABLING("- raid disabling"),
+        SNIFFER_SPAWNER("- sniffer spawner"),
+        PILLAGER_SPAWNER("- pillager spawner"),
+        ENDERDRAGON_SPAWNER("- enderdragon spawner");
+
+        private final String label;
+
+        Section(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    /**
+     * Entity counters, attributed to the current second
+     */
+    public enum Counter {
+        VISITED,
+        DISCARDED,
+        MODIFIED
+    }
+
+    private static final int SECTION_COUNT = Section.values().length;
+    private static final int COUNTER_COUNT = Counter.values().length;
+
+    // Histogram layout
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 36; // 2^36 ns (about 68 s) and longer share the last bucket
+    private static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    // One slot per second of the last minute
+    public static final int WINDOW_SECONDS = 60;
+
+    private static boolean enabled = false;
+    private static long currentSecond = -1;
+    private static int currentSlot = 0;
+    private static final long[] slotSeconds = new long[WINDOW_SECONDS];
+    private static final int[][][] histograms = new int[SECTION_COUNT][WINDOW_SECONDS][]; // Allocated on first use
+    private static final long[][] calls = new long[SECTION_COUNT][WINDOW_SECONDS];
+    private static final long[][] totalNanos = new long[SECTION_COUNT][WINDOW_SECONDS];
+    private static final long[][] maxNanos = new long[SECTION_COUNT][WINDOW_SECONDS];
+    private static final long[][] counters = new long[COUNTER_COUNT][WINDOW_SECONDS];
+
+    // Per-tick recording
+    private static boolean recording = false;
+    private static long tickStartNanos = 0;
+    private static final long[] tickSectionNanos = new long[SECTION_COUNT];
+    private static List<long[]> samples = new ArrayList<>();
+
+    static {
+        Arrays.fill(slotSeconds, -1);
+    }
+
+    /**
+     * Timings of one section over a time window
+     */
+    public static class Summary {
+        public final Section section;
+        public final long calls;
+        public final long totalNanos;
+        public final long p50Nanos;
+        public final long p99Nanos;
+        public final long maxNanos;
+
+        private Summary(Section section, long calls, long totalNanos, long p50Nanos, long p99Nanos, long maxNanos) {
+            this.section = section;
+            this.calls = calls;
+            this.totalNanos = totalNanos;
+            this.p50Nanos = p50Nanos;
+            this.p99Nanos = p99Nanos;
+            this.maxNanos = maxNanos;
+        }
+    }
+
+    public static void register() {
+        enabled = ModConfig.getInstance().isProfilerEnabled();
+
+        ServerTickEvents.START_SERVER_TICK.register(server -> {
+            // Counters of this tick go to its second, also when no timing has ended in it yet
+            if (enabled) {
+                rotate(System.nanoTime());
+            }
+            if (recording) {
+                tickStartNanos = System.nanoTime();
+            }
+        });
+
+        ServerTickEvents.END_SERVER_TICK.register(server -> {
+            if (!recording) return;
+
+            // A recording started in the middle of this tick only has part of it - drop that part
+            if (tickStartNanos != 0) {
+                // Whole tick first, then each section
+                long[] sample = new long[SECTION_COUNT + 1];
+                sample[0] = System.nanoTime() - tickStartNanos;
+                for (int i = 0; i < SECTION_COUNT; i++) {
+                    sample[i + 1] = tickSectionNanos[i];
+                }
+                samples.add(sample);
+            }
+            for (int i = 0; i < SECTION_COUNT; i++) {
+                tickSectionNanos[i] = 0;
+            }
+        });
+    }
+
+    /**
+     * Start timing a section. Returns 0 when neither enabled nor recording.
+     */
+    public static long begin() {
+        return enabled || recording ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Record the time since {@link #begin()} for a section
+     */
+    public static void end(Section section, long startNanos) {
+        if (startNanos == 0L) return;
+
+        long now = System.nanoTime();
+        long elapsed = now - startNanos;
+        int index = section.ordinal();
+        if (recording) {
+            tickSectionNanos[index] += elapsed;
+        }
+        if (!enabled) return;
+
+        rotate(now);
+        int slot = currentSlot;
+        int[] histogram = histograms[index][slot];
+        if (histogram == null) {
+            histogram = new int[BUCKET_COUNT];
+            histograms[index][slot] = histogram;
+        }
+        histogram[bucketOf(elapsed)]++;
+        calls[index][slot]++;
+        totalNanos[index][slot] += elapsed;
+        if (elapsed > maxNanos[index][slot]) {
+            maxNanos[index][slot] = elapsed;
+        }
+    }
+
+    /**
+     * Count one entity. Goes to the second of the current tick, so it costs no clock read.
+     */
+    public static void count(Counter counter) {
+        if (enabled) {
+            if (currentSecond < 0) {
+                rotate(System.nanoTime()); // First count since a reset, before the next tick
+            }
+            counters[counter.ordinal()][currentSlot]++;
+        }
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enable) {
+        if (enable && !enabled) {
+            reset(); // Don't mix in numbers from before the pause
+        }
+        enabled = enable;
+    }
+
+    /**
+     * Forget all histograms and counters
+     */
+    public static void reset() {
+        Arrays.fill(slotSeconds, -1);
+        currentSecond = -1;
+    }
+
+    /**
+     * Summarize each section that ran in the last given seconds (including the current one)
+     */
+    public static List<Summary> summarize(int seconds) {
+        boolean[] slots = slotsWithin(seconds);
+        List<Summary> summaries = new ArrayList<>();
+        int[] merged = new int[BUCKET_COUNT];
+
+        for (Section section : Section.values()) {
+            int index = section.ordinal();
+            long sectionCalls = 0;
+            long sectionTotal = 0;
+            long sectionMax = 0;
+            Arrays.fill(merged, 0);
+
+            for (int slot = 0; slot < WINDOW_SECONDS; slot++) {
+                if (!slots[slot] || calls[index][slot] == 0) continue;
+                sectionCalls += calls[index][slot];
+                sectionTotal += totalNanos[index][slot];
+                sectionMax = Math.max(sectionMax, maxNanos[index][slot]);
+                int[] histogram = histograms[index][slot];
+                for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+                    merged[bucket] += histogram[bucket];
+                }
+            }
+            if (sectionCalls == 0) continue;
+
+            summaries.add(new Summary(section, sectionCalls, sectionTotal,
+                    Math.min(sectionMax, percentile(merged, sectionCalls, 0.50)),
+                    Math.min(sectionMax, percentile(merged, sectionCalls, 0.99)),
+                    sectionMax));
+        }
+        return summaries;
+    }
+
+    /**
+     * Total of a counter over the last given seconds (including the current one)
+     */
+    public static long getCount(Counter counter, int seconds) {
+        boolean[] slots = slotsWithin(seconds);
+        long total = 0;
+        for (int slot = 0; slot < WINDOW_SECONDS; slot++) {
+            if (slots[slot]) {
+                total += counters[counter.ordinal()][slot];
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Start a new recording, dropping any previous samples
+     */
+    public static void startRecording() {
+        samples = new ArrayList<>();
+        tickStartNanos = 0;
+        for (int i = 0; i < SECTION_COUNT; i++) {
+            tickSectionNanos[i] = 0;
+        }
+        recording = true;
+    }
+
+    /**
+     * Stop recording and return one sample per recorded tick: the tick length in
+     * nanoseconds, followed by the nanoseconds spent in each {@link Section}
+     */
+    public static List<long[]> stopRecording() {
+        recording = false;
+        List<long[]> recorded = samples;
+        samples = new ArrayList<>();
+        return recorded;
+    }
+
+    public static boolean isRecording() {
+        return recording;
+    }
+
+    /**
+     * Move to the slot of the current second, clearing what it held a minute ago
+     */
+    private static void rotate(long nowNanos) {
+        long second = nowNanos / 1_000_000_000L;
+        if (second == currentSecond) return;
+
+        currentSecond = second;
+        int slot = (int) Math.floorMod(second, (long) WINDOW_SECONDS);
+        currentSlot = slot;
+        if (slotSeconds[slot] == second) return;
+
+        slotSeconds[slot] = second;
+        for (int i = 0; i < SECTION_COUNT; i++) {
+            if (histograms[i][slot] != null) {
+                Arrays.fill(histograms[i][slot], 0);
+            }
+            calls[i][slot] = 0;
+            totalNanos[i][slot] = 0;
+            maxNanos[i][slot] = 0;
+        }
+        for (int i = 0; i < COUNTER_COUNT; i++) {
+            counters[i][slot] = 0;
+        }
+    }
+
+    private static boolean[] slotsWithin(int seconds) {
+        long now = System.nanoTime() / 1_000_000_000L;
+        long oldest = now - Math.max(1, Math.min(WINDOW_SECONDS, seconds)) + 1;
+        boolean[] slots = new boolean[WINDOW_SECONDS];
+        for (int slot = 0; slot < WINDOW_SECONDS; slot++) {
+            slots[slot] = slotSeconds[slot] >= oldest && slotSeconds[slot] <= now;
+        }
+        return slots;
+    }
+
+    private static int bucketOf(long nanos) {
+        if (nanos < SUB_BUCKETS) {
+            return (int) Math.max(0, nanos);
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+        if (exponent >= MAX_EXPONENT) {
+            return BUCKET_COUNT - 1;
+        }
+        int subBucket = (int) (nanos >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Highest value that falls into a bucket
+     */
+    private static long bucketUpperBound(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        int subBucket = bucket % SUB_BUCKETS;
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        return ((long) (SUB_BUCKETS + subBucket) << (exponent - SUB_BUCKET_BITS)) + width - 1;
+    }
+
+    private static long percentile(int[] histogram, long count, double fraction) {
+        long rank = Math.max(1, (long) Math.ceil(fraction * count));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            seen += histogram[bucket];
+            if (seen >= rank) {
+                return bucketUpperBound(bucket);
+            }
+        }
+        return bucketUpperBound(BUCKET_COUNT - 1);
+    }
+}
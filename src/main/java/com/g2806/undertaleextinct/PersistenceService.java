@@ -0,0 +1,180 @@
+package com.g2806.undertaleextinct;
+
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.nbt.NbtHelper;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.WorldSavePath;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Dirty-tracked saving of the mod's persistent data sets.
+ * Data sets are snapshotted to NBT on the server thread, then compressed and written
+ * by a single background thread to a temp file that is atomically moved over
+ * {@code <world>/data/<id>.dat} (the same file the PersistentStateManager reads).
+ * Only data sets marked dirty since their last save are written.
+ */
+public class PersistenceService {
+    private static final Logger LOGGER = LoggerFactory.getLogger("PersistenceService");
+
+    // Autosave every 6000 ticks (5 minutes)
+    private static final int AUTOSAVE_INTERVAL = 6000;
+
+    private static final Map<String, DataSet> dataSets = new ConcurrentHashMap<>();
+    private static ExecutorService writer;
+    private static int ticksSinceSave = 0;
+
+    private static class DataSet {
+        final String id;
+        final Supplier<NbtCompound> snapshotter;
+        final Consumer<NbtCompound> onWritten;
+        final AtomicBoolean dirty = new AtomicBoolean(false);
+
+        DataSet(String id, Supplier<NbtCompound> snapshotter, Consumer<NbtCompound> onWritten) {
+            this.id = id;
+            this.snapshotter = snapshotter;
+            this.onWritten = onWritten;
+        }
+    }
+
+    public static void register() {
+        ServerLifecycleEvents.SERVER_STARTED.register(server -> {
+            ticksSinceSave = 0;
+            writer = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "UndertaleExtinct Persistence");
+                thread.setDaemon(true);
+                return thread;
+            });
+        });
+
+        ServerTickEvents.END_SERVER_TICK.register(server -> {
+            if (++ticksSinceSave >= AUTOSAVE_INTERVAL) {
+                ticksSinceSave = 0;
+                saveDirty(server);
+            }
+        });
+
+        // Final save, then wait for pending writes so nothing is lost on shutdown
+        ServerLifecycleEvents.SERVER_STOPPING.register(server -> {
+            saveDirty(server);
+            shutdown();
+        });
+    }
+
+    /**
+     * Register a data set. The snapshotter runs on the server thread and must return a detached copy.
+     */
+    public static void registerDataSet(String id, Supplier<NbtCompound> snapshotter) {
+        registerDataSet(id, snapshotter, snapshot -> {});
+    }
+
+    /**
+     * Register a data set with a callback that runs on the writer thread once a snapshot is safely on disk
+     */
+    public static void registerDataSet(String id, Supplier<NbtCompound> snapshotter, Consumer<NbtCompound> onWritten) {
+        dataSets.put(id, new DataSet(id, snapshotter, onWritten));
+    }
+
+    /**
+     * Mark a data set as changed so the next save writes it (safe from any thread)
+     */
+    public static void markDirty(String id) {
+        DataSet dataSet = dataSets.get(id);
+        if (dataSet != null) {
+            dataSet.dirty.set(true);
+        }
+    }
+
+    /**
+     * Snapshot every dirty data set and queue it for writing. Must be called on the server thread.
+     */
+    public static void saveDirty(MinecraftServer server) {
+        ExecutorService executor = writer;
+        if (executor == null) return;
+
+        Path dataDir = server.getSavePath(WorldSavePath.ROOT).resolve("data");
+
+        for (DataSet dataSet : dataSets.values()) {
+            if (!dataSet.dirty.getAndSet(false)) continue;
+
+            NbtCompound snapshot;
+            try {
+                snapshot = dataSet.snapshotter.get();
+            } catch (Exception e) {
+                LOGGER.error("Failed to snapshot {}: {}", dataSet.id, e.getMessage());
+                dataSet.dirty.set(true);
+                continue;
+            }
+
+            executor.execute(() -> write(dataSet, dataDir, snapshot));
+        }
+    }
+
+    private static void write(DataSet dataSet, Path dataDir, NbtCompound snapshot) {
+        // Same layout as PersistentState.save, so PersistentStateManager can read it back
+        NbtCompound root = new NbtCompound();
+        root.put("data", snapshot);
+        NbtHelper.putDataVersion(root);
+
+        Path target = dataDir.resolve(dataSet.id + ".dat");
+        Path temp = null;
+        try {
+            Files.createDirectories(dataDir);
+            temp = Files.createTempFile(dataDir, dataSet.id, ".tmp");
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                NbtIo.writeCompressed(root, out);
+            }
+
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            LOGGER.debug("Saved {}", target);
+            dataSet.onWritten.accept(snapshot);
+        } catch (IOException e) {
+            LOGGER.error("Failed to save {}: {}", target, e.getMessage());
+            // Retry on the next save
+            dataSet.dirty.set(true);
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+
+    private static void shutdown() {
+        ExecutorService executor = writer;
+        if (executor == null) return;
+        writer = null;
+
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                LOGGER.warn("Timed out waiting for pending data writes");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,388 @@
+package com.g2806.undertaleextinct;
+
+import com.g2806.undertaleextinct.mixin.EntityChunkDataAccessAccessor;
+import com.g2806.undertaleextinct.mixin.ServerEntityManagerAccessor;
+import com.g2806.undertaleextinct.mixin.ServerWorldAccessor;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerChunkEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.nbt.NbtElement;
+import net.minecraft.nbt.NbtList;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.WorldSavePath;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.dimension.DimensionType;
+import net.minecraft.world.storage.ChunkDataAccess;
+import net.minecraft.world.storage.EntityChunkDataAccess;
+import net.minecraft.world.storage.StorageIoWorker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Offline extinction for mobs stored in unloaded chunks.
+ * Streams every dimension's entities/*.mca region file through a small worker pool
+ * using memory-mapped reads to find the chunks whose raw bytes contain a cursed entity id.
+ * The files are never written directly: each candidate chunk is read and written back
+ * through the dimension's entity {@link StorageIoWorker}, the same IO thread the game
+ * saves entities with, so the rewrite is ordered with the game's own saves and sector
+ * moves. Chunks the entity manager still holds, or that load during the sweep, are left
+ * alone; the server thread only checks that and hands off the work.
+ */
+public class RegionEntitySweeper {
+    private static final Logger LOGGER = LoggerFactory.getLogger("RegionEntitySweeper");
+
+    // Anvil region layout
+    private static final int SECTOR_SIZE = 4096;
+    private static final int HEADER_SIZE = SECTOR_SIZE * 2;
+    private static final int CHUNKS_PER_REGION = 1024;
+    private static final int COMPRESSION_GZIP = 1;
+    private static final int COMPRESSION_ZLIB = 2;
+    private static final int COMPRESSION_NONE = 3;
+    private static final int EXTERNAL_FLAG = 0x80;
+
+    // Serialized string tag named "id": type 8, name length 2, "id"
+    private static final byte[] ID_KEY = {8, 0, 2, 'i', 'd'};
+
+    private static final AtomicBoolean running = new AtomicBoolean(false);
+    private static volatile ExecutorService workers;
+
+    /**
+     * Totals of a finished sweep
+     */
+    public static class Stats {
+        public final AtomicInteger regionFiles = new AtomicInteger();
+        public final AtomicLong bytesScanned = new AtomicLong();
+        public final AtomicInteger chunksRewritten = new AtomicInteger();
+        public final AtomicInteger chunksSkipped = new AtomicInteger();
+        public final AtomicInteger entitiesRemoved = new AtomicInteger();
+    }
+
+    // Chunks loaded in any world since the sweep started - their stored entities may be stale
+    private static final Map<ServerWorld, LongSet> loadedDuringSweep = new HashMap<>();
+
+    /**
+     * A chunk with its cursed entities stripped
+     */
+    private static class Rewrite {
+        final NbtCompound chunk;
+        final int removed;
+
+        Rewrite(NbtCompound chunk, int removed) {
+            this.chunk = chunk;
+            this.removed = removed;
+        }
+    }
+
+    public static void register() {
+        ServerChunkEvents.CHUNK_LOAD.register((world, chunk) -> {
+            if (running.get()) {
+                loadedDuringSweep.computeIfAbsent(world, w -> new LongOpenHashSet()).add(chunk.getPos().toLong());
+            }
+        });
+
+        ServerLifecycleEvents.SERVER_STOPPING.register(server -> {
+            ExecutorService pool = workers;
+            if (pool != null) {
+                pool.shutdownNow();
+                workers = null;
+                running.set(false); // Pending continuations write nothing once this is false
+                loadedDuringSweep.clear();
+                LOGGER.info("Aborted region entity sweep for server shutdown");
+            }
+        });
+    }
+
+    public static boolean isRunning() {
+        return running.get();
+    }
+
+    /**
+     * Start an offline sweep of every dimension's entity region files.
+     * Must be called on the server thread after the world has been saved and flushed.
+     *
+     * @return false if a sweep is already running
+     */
+    public static boolean start(MinecraftServer server, Set<String> cursedIds, Consumer<Stats> onComplete) {
+        if (!running.compareAndSet(false, true)) return false;
+
+        Stats stats = new Stats();
+        int threads = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+        ExecutorService pool = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "UndertaleExtinct Region Sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        workers = pool;
+
+        List<CompletableFuture<Void>> tasks = new ArrayList<>();
+        Path worldRoot = server.getSavePath(WorldSavePath.ROOT);
+        loadedDuringSweep.clear();
+
+        for (ServerWorld world : server.getWorlds()) {
+            StorageIoWorker ioWorker = getEntityIoWorker(world);
+            if (ioWorker == null) {
+                LOGGER.warn("Entity storage of {} is not the vanilla one, skipping its region files", world.getRegistryKey().getValue());
+                continue;
+            }
+
+            Path entitiesDir = DimensionType.getSaveDirectory(world.getRegistryKey(), worldRoot).resolve("entities");
+            for (Path regionFile : listRegionFiles(entitiesDir)) {
+                // Scan on a worker, then hand the candidate chunks to the entity IO worker
+                tasks.add(CompletableFuture
+                        .supplyAsync(() -> scanRegion(regionFile, cursedIds, stats), pool)
+                        .thenComposeAsync(candidates -> rewriteChunks(world, ioWorker, candidates, cursedIds, stats, pool), server));
+            }
+        }
+
+        LOGGER.info("Started region entity sweep over {} region files with {} workers", tasks.size(), threads);
+
+        CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0])).whenCompleteAsync((result, error) -> {
+            pool.shutdown();
+            workers = null;
+            running.set(false);
+            loadedDuringSweep.clear();
+
+            if (error != null) {
+                LOGGER.error("Region entity sweep failed: {}", error.getMessage());
+            }
+            LOGGER.info("Region entity sweep finished: {} files, {} bytes scanned, {} entities removed from {} chunks ({} skipped)",
+                    stats.regionFiles.get(), stats.bytesScanned.get(), stats.entitiesRemoved.get(),
+                    stats.chunksRewritten.get(), stats.chunksSkipped.get());
+            onComplete.accept(stats);
+        }, server);
+
+        return true;
+    }
+
+    private static List<Path> listRegionFiles(Path entitiesDir) {
+        List<Path> files = new ArrayList<>();
+        if (!Files.isDirectory(entitiesDir)) return files;
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(entitiesDir, "r.*.*.mca")) {
+            for (Path file : stream) {
+                files.add(file);
+            }
+        } catch (IOException e) {
+            LOGGER.error("Failed to list region files in {}: {}", entitiesDir, e.getMessage());
+        }
+        return files;
+    }
+
+    /**
+     * Find the chunks of a region file that mention a cursed entity id. The file may be
+     * written by the game meanwhile, so this is only a candidate list - the actual rewrite
+     * works on what the IO worker reads.
+     */
+    private static List<ChunkPos> scanRegion(Path regionFile, Set<String> cursedIds, Stats stats) {
+        List<ChunkPos> candidates = new ArrayList<>();
+
+        // File names are r.<regionX>.<regionZ>.mca
+        String[] parts = regionFile.getFileName().toString().split("\\.");
+        int regionX;
+        int regionZ;
+        try {
+            regionX = Integer.parseInt(parts[1]);
+            regionZ = Integer.parseInt(parts[2]);
+        } catch (NumberFormatException e) {
+            return candidates;
+        }
+
+        try (FileChannel channel = FileChannel.open(regionFile, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE || size > Integer.MAX_VALUE) return candidates;
+
+            MappedByteBuffer map = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            stats.regionFiles.incrementAndGet();
+            stats.bytesScanned.addAndGet(HEADER_SIZE);
+
+            for (int index = 0; index < CHUNKS_PER_REGION; index++) {
+                int location = map.getInt(index * 4);
+                if (location == 0) continue;
+
+                long sectorOffset = (long) (location >>> 8) * SECTOR_SIZE;
+                int sectors = location & 0xFF;
+                if (sectorOffset < HEADER_SIZE || sectorOffset + 5 > size) continue;
+                int position = (int) sectorOffset;
+
+                // Chunk payload: 4 byte length (including the compression byte), compression type, data
+                int length = map.getInt(position);
+                if (length <= 1 || position + 4L + length > size || length + 4L > (long) sectors * SECTOR_SIZE) continue;
+
+                int compression = map.get(position + 4) & 0xFF;
+                stats.bytesScanned.addAndGet(4L + length);
+
+                if ((compression & EXTERNAL_FLAG) != 0) {
+                    // Oversized chunk stored in a separate .mcc file - left to the load-time cleanup
+                    stats.chunksSkipped.incrementAndGet();
+                    continue;
+                }
+
+                byte[] payload = new byte[length - 1];
+                map.get(position + 5, payload);
+
+                try {
+                    byte[] nbtBytes = decompress(compression, payload);
+                    if (nbtBytes != null && containsCursedId(nbtBytes, cursedIds)) {
+                        candidates.add(new ChunkPos(regionX * 32 + (index & 31), regionZ * 32 + (index >> 5)));
+                    }
+                } catch (IOException e) {
+                    // Torn by a concurrent write - the next sweep will see it
+                    stats.chunksSkipped.incrementAndGet();
+                }
+            }
+        } catch (Exception e) {
+            LOGGER.error("Failed to scan region file {}: {}", regionFile, e.getMessage());
+        }
+
+        return candidates;
+    }
+
+    /**
+     * Read each candidate through the IO worker, strip it on a sweeper thread and queue the
+     * result back on the IO worker. Runs on the server thread, which only checks and hands off.
+     */
+    private static CompletableFuture<Void> rewriteChunks(ServerWorld world, StorageIoWorker ioWorker, List<ChunkPos> candidates,
+                                                         Set<String> cursedIds, Stats stats, ExecutorService pool) {
+        if (candidates.isEmpty() || !running.get()) return CompletableFuture.completedFuture(null);
+
+        List<CompletableFuture<Void>> rewrites = new ArrayList<>();
+        for (ChunkPos pos : candidates) {
+            // Entities the manager holds are handled by the ENTITY_LOAD cleanup and saved by the game
+            if (isHeldByGame(world, pos)) {
+                stats.chunksSkipped.incrementAndGet();
+                continue;
+            }
+
+            rewrites.add(ioWorker.readChunkData(pos)
+                    .thenApplyAsync(data -> data.map(chunk -> stripChunk(chunk, cursedIds)).orElse(null), pool)
+                    .thenAcceptAsync(rewrite -> {
+                        if (rewrite == null || !running.get()) return;
+
+                        // Loaded since it was read - the game owns (and will save) a newer copy
+                        if (isHeldByGame(world, pos)) {
+                            stats.chunksSkipped.incrementAndGet();
+                            return;
+                        }
+                        ioWorker.setResult(pos, rewrite.chunk);
+                        stats.chunksRewritten.incrementAndGet();
+                        stats.entitiesRemoved.addAndGet(rewrite.removed);
+                    }, world.getServer())
+                    .exceptionally(error -> {
+                        LOGGER.debug("Failed to rewrite entity chunk {} in {}: {}", pos, world.getRegistryKey().getValue(), error.getMessage());
+                        stats.chunksSkipped.incrementAndGet();
+                        return null;
+                    }));
+        }
+        return CompletableFuture.allOf(rewrites.toArray(new CompletableFuture[0]));
+    }
+
+    private static Rewrite stripChunk(NbtCompound chunk, Set<String> cursedIds) {
+        int removed = removeCursedEntities(chunk.getList("Entities", NbtElement.COMPOUND_TYPE), cursedIds);
+        return removed > 0 ? new Rewrite(chunk, removed) : null;
+    }
+
+    /**
+     * Whether the entity manager tracks the chunk (loading, loaded or waiting to save),
+     * or the chunk was loaded at any point since the sweep started. Server thread only.
+     */
+    private static boolean isHeldByGame(ServerWorld world, ChunkPos pos) {
+        long chunkPos = pos.toLong();
+        LongSet loaded = loadedDuringSweep.get(world);
+        if (loaded != null && loaded.contains(chunkPos)) return true;
+
+        var entityManager = ((ServerWorldAccessor) world).undertaleextinct$getEntityManager();
+        return ((ServerEntityManagerAccessor) entityManager).undertaleextinct$getManagedStatuses().containsKey(chunkPos);
+    }
+
+    private static StorageIoWorker getEntityIoWorker(ServerWorld world) {
+        var entityManager = ((ServerWorldAccessor) world).undertaleextinct$getEntityManager();
+        ChunkDataAccess<?> dataAccess = ((ServerEntityManagerAccessor) entityManager).undertaleextinct$getDataAccess();
+        if (dataAccess instanceof EntityChunkDataAccess) {
+            return ((EntityChunkDataAccessAccessor) dataAccess).undertaleextinct$getDataLoadWorker();
+        }
+        return null;
+    }
+
+    /**
+     * Cheap pre-check: look for a serialized "id" string tag whose value is cursed
+     */
+    private static boolean containsCursedId(byte[] nbtBytes, Set<String> cursedIds) {
+        int end = nbtBytes.length - ID_KEY.length - 2;
+        outer:
+        for (int i = 0; i <= end; i++) {
+            for (int j = 0; j < ID_KEY.length; j++) {
+                if (nbtBytes[i + j] != ID_KEY[j]) continue outer;
+            }
+
+            int valueLength = ((nbtBytes[i + 5] & 0xFF) << 8) | (nbtBytes[i + 6] & 0xFF);
+            if (i + 7 + valueLength > nbtBytes.length) continue;
+
+            // Entity ids are plain ASCII, so this matches the modified UTF-8 encoding
+            if (cursedIds.contains(new String(nbtBytes, i + 7, valueLength, StandardCharsets.UTF_8))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Strip cursed entities (and cursed passengers) from an entity list.
+     * Passengers of a removed vehicle stay behind, like a discarded vehicle dismounting them.
+     */
+    private static int removeCursedEntities(NbtList entities, Set<String> cursedIds) {
+        int removed = 0;
+        for (int i = entities.size() - 1; i >= 0; i--) {
+            NbtCompound entity = entities.getCompound(i);
+            NbtList passengers = entity.getList("Passengers", NbtElement.COMPOUND_TYPE);
+            removed += removeCursedEntities(passengers, cursedIds);
+
+            // Don't remove mobs that were spawned as part of nether saved system
+            if (cursedIds.contains(entity.getString("id"))
+                    && (MobMarker.fromNbt(entity) & MobMarker.NETHER_SAVED_SPAWN) == 0) {
+                entities.remove(i);
+                entities.addAll(passengers);
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    private static byte[] decompress(int compression, byte[] payload) throws IOException {
+        switch (compression) {
+            case COMPRESSION_GZIP:
+                try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(payload))) {
+                    return in.readAllBytes();
+                }
+            case COMPRESSION_ZLIB:
+                try (InputStream in = new InflaterInputStream(new ByteArrayInputStream(payload))) {
+                    return in.readAllBytes();
+                }
+            case COMPRESSION_NONE:
+                return payload;
+            default:
+                return null;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.g2806.undertaleextinct;
+
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerEntityEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.minecraft.entity.effect.StatusEffect;
+import net.minecraft.entity.effect.StatusEffectInstance;
+import net.minecraft.entity.mob.MobEntity;
+
+/**
+ * What the saved modes already did to each loaded mob, so the periodic passes only touch
+ * a mob again when something is about to run out. Kept in a side table keyed by entity id,
+ * one long per mob: the tick of the next effect refresh in the high bits and a few flags
+ * in the low byte. Entries are dropped when the mob unloads. Server thread only.
+ */
+public class SavedEffectState {
+    // Flags
+    public static final int AI_RESET = 1; // Targeting was reset once
+
+    // Effects are renewed once they have less than this many ticks left. Longer than the
+    // 100 tick maintenance period, so they never lapse between two passes.
+    public static final int REFRESH_MARGIN = 200;
+
+    private static final int FLAG_BITS = 8;
+    private static final long FLAG_MASK = (1L << FLAG_BITS) - 1;
+
+    private static final Int2LongOpenHashMap states = new Int2LongOpenHashMap();
+
+    public static void register() {
+        ServerEntityEvents.ENTITY_UNLOAD.register((entity, world) -> {
+            if (entity instanceof MobEntity) {
+                states.remove(entity.getId());
+            }
+        });
+        ServerLifecycleEvents.SERVER_STOPPED.register(server -> states.clear());
+    }
+
+    public static boolean hasFlag(MobEntity mobEntity, int flag) {
+        return (states.get(mobEntity.getId()) & flag) != 0;
+    }
+
+    public static void setFlag(MobEntity mobEntity, int flag) {
+        int id = mobEntity.getId();
+        states.put(id, states.get(id) | flag);
+    }
+
+    /**
+     * Whether the effects of this mob should be checked again (always true for unknown mobs)
+     */
+    public static boolean isRefreshDue(MobEntity mobEntity, long now) {
+        return (states.get(mobEntity.getId()) >>> FLAG_BITS) <= now;
+    }
+
+    /**
+     * Don't check the effects of this mob again before the given tick
+     */
+    public static void scheduleRefresh(MobEntity mobEntity, long tick) {
+        int id = mobEntity.getId();
+        states.put(id, (Math.max(0L, tick) << FLAG_BITS) | (states.get(id) & FLAG_MASK));
+    }
+
+    /**
+     * Give the mob an ambient, hidden effect unless it already has it at least this strong
+     * for longer than the refresh margin. Only a missing or expiring effect allocates and
+     * sends an effect update to the clients.
+     *
+     * @return ticks until the effect runs out
+     */
+    public static int ensureEffect(MobEntity mobEntity, StatusEffect effect, int duration, int amplifier) {
+        if (!needsEffect(mobEntity, effect, amplifier)) {
+            StatusEffectInstance current = mobEntity.getStatusEffect(effect);
+            return current.isInfinite() ? Integer.MAX_VALUE : current.getDuration();
+        }
+        mobEntity.addStatusEffect(new StatusEffectInstance(effect, duration, amplifier, true, false));
+        return duration;
+    }
+
+    /**
+     * Whether {@link #ensureEffect} would (re)apply the effect
+     */
+    public static boolean needsEffect(MobEntity mobEntity, StatusEffect effect, int amplifier) {
+        StatusEffectInstance current = mobEntity.getStatusEffect(effect);
+        return current == null || current.getAmplifier() < amplifier
+                || (!current.isInfinite() && current.getDuration() <= REFRESH_MARGIN);
+    }
+
+    public static void clear() {
+        states.clear();
+    }
+}
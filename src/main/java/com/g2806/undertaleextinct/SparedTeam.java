@@ -0,0 +1,237 @@
+package com.g2806.undertaleextinct;
+
+import net.fabricmc.fabric.api.entity.event.v1.ServerLivingEntityEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerEntityEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.mob.MobEntity;
+import net.minecraft.registry.Registries;
+import net.minecraft.scoreboard.Scoreboard;
+import net.minecraft.scoreboard.Team;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.world.ServerWorld;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+
+/**
+ * The "spared" scoreboard team that keeps mobs spared by overworld saved mode from hurting
+ * each other. Only loaded mobs are members: they join when they are spared or load, and
+ * leave when they die, are discarded or unload, so the team no longer grows with every mob
+ * ever spared. A periodic collector drops names of mobs that are gone anyway (left over from
+ * older versions or a crash). With the team disabled in the config the same no-friendly-fire
+ * rule is applied through a damage check on the {@link MobMarker#SPARED} marks instead.
+ */
+public class SparedTeam {
+    private static final Logger LOGGER = LoggerFactory.getLogger("SparedTeam");
+
+    public static final String TEAM_NAME = "spared";
+
+    // Ticks between garbage collections of the team (5 minutes), and names checked per tick
+    private static final int GC_INTERVAL = 6000;
+    private static final int GC_BATCH = 512;
+
+    private static MinecraftServer server;
+    private static int ticksSinceGc = 0;
+
+    // Running collection: names left to check, and names found dead so far
+    private static Deque<String> gcPending = null;
+    private static final List<String> gcDead = new ArrayList<>();
+    private static int gcAlive = 0;
+
+    public static void register() {
+        ServerLifecycleEvents.SERVER_STARTING.register(s -> server = s); // Before the spawn chunks load
+        ServerLifecycleEvents.SERVER_STOPPED.register(s -> {
+            server = null;
+            gcPending = null;
+            gcDead.clear();
+        });
+
+        ServerEntityEvents.ENTITY_LOAD.register((entity, world) -> {
+            if (entity instanceof MobEntity mobEntity && MobMarker.has(mobEntity, MobMarker.SPARED)) {
+                add(mobEntity);
+            }
+        });
+
+        // Death, discard and chunk unload end up here. A dimension change also unloads the mob,
+        // but its copy in the new world keeps the UUID and so the team membership.
+        ServerEntityEvents.ENTITY_UNLOAD.register((entity, world) -> {
+            if (entity.getRemovalReason() == Entity.RemovalReason.CHANGED_DIMENSION) return;
+            if (entity instanceof MobEntity mobEntity && MobMarker.has(mobEntity, MobMarker.SPARED)) {
+                remove(mobEntity, world.getScoreboard());
+            }
+        });
+
+        // Team-less mode: spared mobs can't hurt each other, like a team without friendly fire
+        ServerLivingEntityEvents.ALLOW_DAMAGE.register((entity, source, amount) -> {
+            if (ModConfig.getInstance().isSparedTeamEnabled()) return true;
+            return !(entity instanceof MobEntity victim && MobMarker.has(victim, MobMarker.SPARED)
+                    && source.getAttacker() instanceof MobEntity attacker && MobMarker.has(attacker, MobMarker.SPARED));
+        });
+
+        ServerTickEvents.END_SERVER_TICK.register(SparedTeam::tickGc);
+    }
+
+    /**
+     * Put a spared mob on the team (no-op while teams are disabled)
+     */
+    public static void add(MobEntity mobEntity) {
+        if (server == null || !ModConfig.getInstance().isSparedTeamEnabled()) return;
+
+        try {
+            Scoreboard scoreboard = server.getScoreboard();
+            Team sparedTeam = getOrCreateTeam(scoreboard);
+            String mobName = mobEntity.getUuidAsString();
+            if (scoreboard.getPlayerTeam(mobName) != sparedTeam) {
+                scoreboard.addPlayerToTeam(mobName, sparedTeam);
+                LOGGER.debug("Added mob to spared team: {}", Registries.ENTITY_TYPE.getId(mobEntity.getType()));
+            }
+        } catch (Exception e) {
+            LOGGER.debug("Failed to add mob to team: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Switch between the scoreboard team and the team-less damage check
+     */
+    public static void setEnabled(boolean enabled) {
+        ModConfig.getInstance().setSparedTeamEnabled(enabled);
+        if (server == null) return;
+
+        if (enabled) {
+            // Everyone spared and loaded joins again
+            for (ServerWorld world : server.getWorlds()) {
+                MobTypeIndex.forEachMob(world, mobEntity -> {
+                    if (MobMarker.has(mobEntity, MobMarker.SPARED)) {
+                        add(mobEntity);
+                    }
+                });
+            }
+        } else {
+            // One packet for the whole team instead of one per member
+            Scoreboard scoreboard = server.getScoreboard();
+            Team sparedTeam = scoreboard.getTeam(TEAM_NAME);
+            if (sparedTeam != null) {
+                scoreboard.removeTeam(sparedTeam);
+                LOGGER.info("Removed 'spared' team, spared mobs are kept apart without it");
+            }
+            gcPending = null;
+            gcDead.clear();
+        }
+    }
+
+    public static int getMemberCount() {
+        if (server == null) return 0;
+        Team sparedTeam = server.getScoreboard().getTeam(TEAM_NAME);
+        return sparedTeam == null ? 0 : sparedTeam.getPlayerList().size();
+    }
+
+    private static Team getOrCreateTeam(Scoreboard scoreboard) {
+        Team sparedTeam = scoreboard.getTeam(TEAM_NAME);
+        if (sparedTeam == null) {
+            sparedTeam = scoreboard.addTeam(TEAM_NAME);
+            sparedTeam.setFriendlyFireAllowed(false); // Prevent team members from attacking each other
+            LOGGER.info("Created 'spared' team for peaceful mobs");
+        }
+        return sparedTeam;
+    }
+
+    private static void remove(MobEntity mobEntity, Scoreboard scoreboard) {
+        Team sparedTeam = scoreboard.getTeam(TEAM_NAME);
+        if (sparedTeam == null) return;
+
+        String mobName = mobEntity.getUuidAsString();
+        if (scoreboard.getPlayerTeam(mobName) == sparedTeam) {
+            scoreboard.removePlayerFromTeam(mobName, sparedTeam);
+        }
+    }
+
+    /**
+     * Check the team members a batch per tick and drop the ones whose mob is not loaded
+     */
+    private static void tickGc(MinecraftServer server) {
+        if (gcPending == null) {
+            if (++ticksSinceGc < GC_INTERVAL) return;
+            ticksSinceGc = 0;
+
+            Team sparedTeam = server.getScoreboard().getTeam(TEAM_NAME);
+            if (sparedTeam == null || sparedTeam.getPlayerList().isEmpty()) return;
+            gcPending = new ArrayDeque<>(sparedTeam.getPlayerList());
+            gcDead.clear();
+            gcAlive = 0;
+        }
+
+        for (int i = 0; i < GC_BATCH && !gcPending.isEmpty(); i++) {
+            String name = gcPending.poll();
+            UUID uuid;
+            try {
+                uuid = UUID.fromString(name);
+            } catch (IllegalArgumentException e) {
+                gcAlive++; // Not a mob - someone put it there on purpose
+                continue;
+            }
+            if (isLoaded(server, uuid)) {
+                gcAlive++;
+            } else {
+                gcDead.add(name);
+            }
+        }
+        if (!gcPending.isEmpty()) return;
+
+        gcPending = null;
+        // A mob may have loaded again since it was checked
+        gcDead.removeIf(name -> isLoaded(server, UUID.fromString(name)));
+        if (gcDead.isEmpty()) return;
+        purge(server.getScoreboard());
+    }
+
+    private static void purge(Scoreboard scoreboard) {
+        Team sparedTeam = scoreboard.getTeam(TEAM_NAME);
+        if (sparedTeam == null) return;
+
+        int dead = gcDead.size();
+        if (dead > gcAlive) {
+            // Mostly garbage: rebuild the team from the live members, which sends far fewer packets
+            List<String> alive = new ArrayList<>(sparedTeam.getPlayerList());
+            alive.removeAll(new HashSet<>(gcDead));
+            scoreboard.removeTeam(sparedTeam);
+            Team rebuilt = scoreboard.addTeam(TEAM_NAME);
+            copySettings(sparedTeam, rebuilt);
+            for (String name : alive) {
+                scoreboard.addPlayerToTeam(name, rebuilt);
+            }
+        } else {
+            for (String name : gcDead) {
+                if (scoreboard.getPlayerTeam(name) == sparedTeam) {
+                    scoreboard.removePlayerFromTeam(name, sparedTeam);
+                }
+            }
+        }
+        gcDead.clear();
+        LOGGER.info("Removed {} gone mobs from the 'spared' team, {} members left", dead, getOrCreateTeam(scoreboard).getPlayerList().size());
+    }
+
+    /**
+     * Carry over whatever was set on the team, by the mod or with /team modify
+     */
+    private static void copySettings(Team from, Team to) {
+        to.setDisplayName(from.getDisplayName());
+        to.setColor(from.getColor());
+        to.setPrefix(from.getPrefix());
+        to.setSuffix(from.getSuffix());
+        to.setFriendlyFireAllowed(from.isFriendlyFireAllowed());
+        to.setShowFriendlyInvisibles(from.shouldShowFriendlyInvisibles());
+        to.setNameTagVisibilityRule(from.getNameTagVisibilityRule());
+        to.setDeathMessageVisibilityRule(from.getDeathMessageVisibilityRule());
+        to.setCollisionRule(from.getCollisionRule());
+    }
+
+    private static boolean isLoaded(MinecraftServer server, UUID uuid) {
+        for (ServerWorld world : server.getWorlds()) {
+            if (world.getEntity(uuid) != null) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,163 @@
+package com.g2806.undertaleextinct;
+
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.random.Random;
+import net.minecraft.world.Heightmap;
+import net.minecraft.world.chunk.WorldChunk;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Finds spawn positions for the mod's own spawners (nether mobs, sniffers, pillagers).
+ * Columns are looked up in the chunk heightmaps instead of scanning down block by block,
+ * so an attempt costs a heightmap read and a few block states. Columns in chunks that are
+ * not loaded are refused rather than loaded. The verdict per column is cached for a few
+ * seconds and reused as long as the column's surface height stays the same.
+ * Server thread only.
+ */
+public class SpawnPositionFinder {
+    private static final int ATTEMPTS = 10;
+    private static final int SPREAD = 10; // Attempts land within -5..4 blocks of the center
+
+    // Cached column verdicts expire after 5 seconds; the cache is dropped when it gets big
+    private static final int CACHE_TICKS = 100;
+    private static final int CACHE_LIMIT = 4096;
+
+    private static final int NONE = Integer.MIN_VALUE;
+    private static final long MISSING = Long.MIN_VALUE;
+
+    // Per world: packed column -> expiry tick (high bits), surface height (12 bits), usable flag
+    private static final Map<ServerWorld, Long2LongOpenHashMap> columnCaches = new HashMap<>();
+
+    // Ghasts must not spawn below this height
+    private static final int GHAST_MIN_Y = 63;
+
+    public static void register() {
+        ServerWorldEvents.UNLOAD.register((server, world) -> columnCaches.remove(world));
+        ServerLifecycleEvents.SERVER_STOPPED.register(server -> columnCaches.clear());
+    }
+
+    /**
+     * Position a mob can stand at near the center: an opaque block with two air blocks on top,
+     * at the surface of the column. Null when none of the attempts found one.
+     */
+    public static BlockPos find(ServerWorld world, BlockPos center) {
+        Random random = world.getRandom();
+        for (int attempts = 0; attempts < ATTEMPTS; attempts++) {
+            int x = center.getX() + random.nextInt(SPREAD) - SPREAD / 2;
+            int z = center.getZ() + random.nextInt(SPREAD) - SPREAD / 2;
+
+            int y = standingY(world, x, z);
+            if (y != NONE) {
+                return new BlockPos(x, y, z);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Whether a ghast can spawn at a position: high enough, a 5x5x5 box of air, no water or
+     * lava in the 7x7x7 box around it and ground at most 20 blocks below. Columns whose
+     * highest block is below the box are known to be air from the heightmap; only columns
+     * reaching into the box are checked block by block.
+     */
+    public static boolean isSafeGhastSpawn(ServerWorld world, BlockPos pos) {
+        if (pos.getY() < GHAST_MIN_Y) {
+            return false;
+        }
+
+        BlockPos.Mutable checkPos = new BlockPos.Mutable();
+        for (int x = -3; x <= 3; x++) {
+            for (int z = -3; z <= 3; z++) {
+                int columnX = pos.getX() + x;
+                int columnZ = pos.getZ() + z;
+                if (!isLoaded(world, columnX, columnZ)) {
+                    return false;
+                }
+
+                // Y above the highest non-air block - everything from there up is air
+                int surface = world.getTopY(Heightmap.Type.WORLD_SURFACE, columnX, columnZ);
+                if (surface <= pos.getY() - 3) continue;
+
+                boolean inner = Math.abs(x) <= 2 && Math.abs(z) <= 2;
+                for (int y = -3; y <= 3; y++) {
+                    BlockState blockState = world.getBlockState(checkPos.set(columnX, pos.getY() + y, columnZ));
+
+                    // Not enough air space (ghasts are 4x4x4)
+                    if (inner && Math.abs(y) <= 2 && !blockState.isAir()) {
+                        return false;
+                    }
+                    // Avoid spawning near water (damages ghasts) or lava
+                    if (blockState.isOf(Blocks.WATER) || blockState.isOf(Blocks.LAVA)) {
+                        return false;
+                    }
+                }
+            }
+        }
+
+        // Solid ground below (within reasonable distance) to avoid spawning in void
+        int lowest = Math.max(pos.getY() - 20, world.getBottomY());
+        int highestBlock = world.getTopY(Heightmap.Type.WORLD_SURFACE, pos.getX(), pos.getZ()) - 1;
+        if (highestBlock < pos.getY()) {
+            return highestBlock >= lowest;
+        }
+
+        // Something overhangs the spawn position - look below it
+        for (int checkY = pos.getY() - 1; checkY >= lowest; checkY--) {
+            if (!world.getBlockState(checkPos.set(pos.getX(), checkY, pos.getZ())).isAir()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Y a mob can stand at in this column, or {@link #NONE}
+     */
+    private static int standingY(ServerWorld world, int x, int z) {
+        if (!isLoaded(world, x, z)) {
+            return NONE;
+        }
+
+        WorldChunk chunk = world.getChunk(x >> 4, z >> 4);
+        int groundY = chunk.sampleHeightmap(Heightmap.Type.MOTION_BLOCKING_NO_LEAVES, x & 15, z & 15);
+        if (groundY < world.getBottomY()) {
+            return NONE; // Nothing in this column
+        }
+
+        // Reuse the verdict while the surface is where it was
+        long now = world.getTime();
+        long column = ((long) x << 32) | (z & 0xFFFFFFFFL);
+        Long2LongOpenHashMap cache = columnCaches.computeIfAbsent(world, w -> {
+            Long2LongOpenHashMap map = new Long2LongOpenHashMap();
+            map.defaultReturnValue(MISSING);
+            return map;
+        });
+        long cached = cache.get(column);
+        if (cached != MISSING && (cached >>> 24) > now && ((cached >>> 12) & 0xFFF) == (groundY & 0xFFF)) {
+            return (cached & 1) != 0 ? groundY + 1 : NONE;
+        }
+
+        BlockPos.Mutable pos = new BlockPos.Mutable(x, groundY, z);
+        boolean usable = chunk.getBlockState(pos).isOpaque()
+                && chunk.getBlockState(pos.move(0, 1, 0)).isAir()
+                && chunk.getBlockState(pos.move(0, 1, 0)).isAir();
+
+        if (cache.size() >= CACHE_LIMIT) {
+            cache.clear();
+        }
+        cache.put(column, ((now + CACHE_TICKS) << 24) | ((long) (groundY & 0xFFF) << 12) | (usable ? 1 : 0));
+        return usable ? groundY + 1 : NONE;
+    }
+
+    private static boolean isLoaded(ServerWorld world, int x, int z) {
+        return world.getChunkManager().isChunkLoaded(x >> 4, z >> 4);
+    }
+}
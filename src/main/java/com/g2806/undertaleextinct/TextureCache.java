@@ -0,0 +1,176 @@
+package com.g2806.undertaleextinct;
+
+import com.mojang.blaze3d.systems.RenderSystem;
+import net.fabricmc.fabric.api.resource.ResourceManagerHelper;
+import net.fabricmc.fabric.api.resource.SimpleSynchronousResourceReloadListener;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.texture.AbstractTexture;
+import net.minecraft.resource.ResourceManager;
+import net.minecraft.resource.ResourceType;
+import net.minecraft.util.Identifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * Reference-counted cache for the mod's generated textures (the animation frames and the
+ * attack HUD atlas). Textures stay on the GPU while something holds a reference. Cached
+ * entries are kept once unused, for quick reuse, until the cache goes over its VRAM budget
+ * (least recently used first) or resources are reloaded; transient entries are destroyed as
+ * soon as they are released. Only used on the render thread.
+ */
+public class TextureCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger("TextureCache");
+    private static final String MOD_ID = "undertaleextinct";
+
+    private static class Entry {
+        final Identifier id;
+        final long bytes;
+        final boolean cached; // Kept when unused, until evicted
+        int references = 0;
+
+        Entry(Identifier id, long bytes, boolean cached) {
+            this.id = id;
+            this.bytes = bytes;
+            this.cached = cached;
+        }
+    }
+
+    // Access-ordered, so iteration starts at the least recently used texture
+    private static final LinkedHashMap<Identifier, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private static final List<Runnable> reloadListeners = new ArrayList<>();
+    private static long usedBytes = 0;
+
+    public static void register() {
+        ResourceManagerHelper.get(ResourceType.CLIENT_RESOURCES).registerReloadListener(new SimpleSynchronousResourceReloadListener() {
+            @Override
+            public Identifier getFabricId() {
+                return new Identifier(MOD_ID, "texture_cache");
+            }
+
+            @Override
+            public void reload(ResourceManager manager) {
+                onResourceReload();
+            }
+        });
+    }
+
+    /**
+     * Run something whenever resources are reloaded (e.g. to drop data read from a resource pack)
+     */
+    public static void addReloadListener(Runnable listener) {
+        reloadListeners.add(listener);
+    }
+
+    /**
+     * Hold a cached texture again if it is still there
+     *
+     * @return false if it was evicted (or never put), in which case nothing is held
+     */
+    public static boolean acquireIfCached(Identifier id) {
+        RenderSystem.assertOnRenderThread();
+
+        Entry entry = entries.get(id); // Also marks it as recently used
+        if (entry == null) return false;
+        entry.references++;
+        return true;
+    }
+
+    /**
+     * Register a generated texture, held once by the caller. It is destroyed when released.
+     */
+    public static void put(Identifier id, AbstractTexture texture, long bytes) {
+        put(id, texture, bytes, false);
+    }
+
+    /**
+     * Register a generated texture, held once by the caller. Once released it stays cached
+     * for {@link #acquireIfCached} until the budget or a resource reload evicts it.
+     */
+    public static void putCached(Identifier id, AbstractTexture texture, long bytes) {
+        put(id, texture, bytes, true);
+    }
+
+    private static void put(Identifier id, AbstractTexture texture, long bytes, boolean cached) {
+        RenderSystem.assertOnRenderThread();
+
+        // Registering closes any texture already using this id
+        Entry previous = entries.remove(id);
+        if (previous != null) {
+            usedBytes -= previous.bytes;
+        }
+
+        Entry entry = new Entry(id, bytes, cached);
+        entry.references = 1;
+        MinecraftClient.getInstance().getTextureManager().registerTexture(id, texture);
+        entries.put(id, entry);
+        usedBytes += bytes;
+        evictOverBudget();
+    }
+
+    /**
+     * Drop a reference to a texture
+     */
+    public static void release(Identifier id) {
+        if (!RenderSystem.isOnRenderThread()) {
+            MinecraftClient.getInstance().execute(() -> release(id));
+            return;
+        }
+
+        Entry entry = entries.get(id);
+        if (entry == null || entry.references == 0) return;
+
+        entry.references--;
+        if (entry.references == 0 && !entry.cached) {
+            entries.remove(id);
+            destroy(entry);
+        } else {
+            evictOverBudget();
+        }
+    }
+
+    /**
+     * Bytes of texture memory currently cached
+     */
+    public static long getUsedBytes() {
+        return usedBytes;
+    }
+
+    private static void evictOverBudget() {
+        long budget = ModConfig.getInstance().getTextureCacheBudgetBytes();
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (usedBytes > budget && iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entry.references > 0) continue;
+
+            iterator.remove();
+            destroy(entry);
+            LOGGER.debug("Evicted texture {} ({} bytes) to stay within budget", entry.id, entry.bytes);
+        }
+    }
+
+    private static void onResourceReload() {
+        // Unused textures were built from the old resources - drop them. Holders rebuild theirs through the listeners.
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entry.references == 0) {
+                iterator.remove();
+                destroy(entry);
+            }
+        }
+
+        for (Runnable listener : reloadListeners) {
+            listener.run();
+        }
+    }
+
+    private static void destroy(Entry entry) {
+        usedBytes -= entry.bytes;
+        MinecraftClient.getInstance().getTextureManager().destroyTexture(entry.id);
+    }
+}
@@ -2,11 +2,9 @@ package com.g2806.undertaleextinct;
 
 import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
 import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking;
-import net.fabricmc.fabric.api.client.rendering.v1.HudRenderCallback;
 import net.fabricmc.fabric.api.networking.v1.PacketByteBufs;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.gui.DrawContext;
-import com.mojang.blaze3d.systems.RenderSystem;
 import net.minecraft.network.PacketByteBuf;
 import net.minecraft.util.Identifier;
 import org.lwjgl.glfw.GLFW;
@@ -19,7 +17,7 @@ import java.util.List;
 /**
  * Undertale gun attack overlay with 4 sliders attack system
  */
-public class UndertaleAttackGunOverlay {
+public class UndertaleAttackGunOverlay implements AttackHudRenderer.Layer {
     private static final Logger LOGGER = LoggerFactory.getLogger("UndertaleAttackGunOverlay");
     private static final String MOD_ID = "undertaleextinct";
     
@@ -34,7 +32,7 @@ public class UndertaleAttackGunOverlay {
     private static final Identifier[] COLOR_SLIDER_TEXTURES = {RED_SLIDER_TEXTURE, BLUE_SLIDER_TEXTURE, YELLOW_SLIDER_TEXTURE};
     
     // Color cycling timing
-    private static final long COLOR_CYCLE_DURATION = 100; // 0.1 seconds in milliseconds
+    private static final int COLOR_CYCLE_TICKS = 2; // 0.1 seconds per color
     
     // Slash animation textures (1.png to 5.png)
     private static final int SLASH_FRAMES = 5;
@@ -53,17 +51,32 @@ public class UndertaleAttackGunOverlay {
     private boolean sliderTextureLoaded = false;
     private boolean colorSlidersLoaded = false;
     private boolean slashTexturesLoaded = false;
+    private boolean texturesHeld = false; // Atlas reference held while shown
+    
+    // Layout, recomputed only when the window is resized
+    private int screenWidth = 0;
+    private int frameX = 0;
+    private int frameY = 0;
+    private int slashX = 0;
+    private int slashY = 0;
+    
+    // Result text, built once per attack instead of every frame
+    private String resultText = null;
+    private String detailText = null;
+    private int resultColor = 0xFFFFFFFF;
+    private int resultTextWidth = 0;
+    private int detailTextWidth = 0;
     
     // Fade-out effect
     private boolean fadingOut = false;
-    private long fadeStartTime = 0;
-    private static final long FADE_DURATION = 1000; // 1 second fade out
+    private ClientTimeline.Tween fade = null;
+    private static final int FADE_TICKS = 20; // 1 second fade out
     
     // Color cycling state (only after click) - only one sequence per attack
     private boolean playingColorSequence = false;
-    private long colorSequenceStartTime = 0;
+    private ClientTimeline.Tween colorSequence = null;
     private int colorSequenceSliderIndex = -1; // Which slider index is playing the color sequence
-    private static final long COLOR_SEQUENCE_TOTAL_DURATION = 300; // 0.3 seconds total (3 colors × 0.1s each)
+    private static final int COLOR_SEQUENCE_TICKS = 6; // 0.3 seconds total (3 colors × 0.1s each)
     
     // Frame dimensions (smaller and thicker for better positioning)
     private static final int FRAME_WIDTH = 541;
@@ -86,19 +99,21 @@ public class UndertaleAttackGunOverlay {
     private boolean showResult = false;
     private int totalAttackValue = 0; // Sum of all 4 slider values
     private int currentAttackNumber = 0; // For numbered attacks (0 = regular gun attack)
-    private long[] sliderSpawnTimes = new long[NUM_SLIDERS]; // When each slider should spawn
-    private long attackStartTime = 0;
     private boolean wasMousePressed = false; // Track mouse state to prevent multiple clicks
     
     // Slider movement settings (configurable)
     private static final float DEFAULT_SLIDER_SPEED = 0.03f;
-    private static final long SLIDER_SPAWN_DELAY = 1000; // 1 second in milliseconds
+    private static final int SLIDER_SPAWN_DELAY_TICKS = 20; // 1 second between sliders
+    
+    // Result timing - longer when the slash animation has to play first
+    private static final int RESULT_HOLD_TICKS = 20;
+    private static final int RESULT_HOLD_AFTER_SLASH_TICKS = 30;
     
     // Slash animation state
     private boolean playingSlashAnimation = false;
-    private int currentSlashFrame = 0;
-    private int slashAnimationTicks = 0;
+    private ClientTimeline.Tween slashAnimation = null;
     private static final int SLASH_FRAME_DELAY = 3; // Ticks between frames
+    private static final int SLASH_SIZE = 100; // Half the original size
     
     public UndertaleAttackGunOverlay() {
         // Initialize all sliders
@@ -114,26 +129,25 @@ public class UndertaleAttackGunOverlay {
                     updateCurrentSlider();
                     checkForClick(client);
                 }
-                updateSlashAnimation();
             }
         });
         
-        // Register render callback
-        HudRenderCallback.EVENT.register(this::renderOverlay);
-        
+        // Drawn by the shared attack HUD renderer
+        AttackHudRenderer.addLayer(this);
     }
     
     private void resetSliders() {
-        attackStartTime = System.currentTimeMillis();
+        // Drop spawns and fades still pending from a previous attack
+        ClientTimeline.cancelAll(this);
         
         // Reset color sequence state
         playingColorSequence = false;
-        colorSequenceStartTime = 0;
+        colorSequence = null;
         colorSequenceSliderIndex = -1;
         
         // Reset fade-out state
         fadingOut = false;
-        fadeStartTime = 0;
+        fade = null;
         
         for (int i = 0; i < NUM_SLIDERS; i++) {
             sliderPositions[i] = 0.0f;
@@ -141,8 +155,6 @@ public class UndertaleAttackGunOverlay {
             sliderFinished[i] = false;
             sliderSpawned[i] = false;
             attackValues[i] = 0;
-            // Set spawn times: first at start time, others with 1 second delays
-            sliderSpawnTimes[i] = attackStartTime + (i * SLIDER_SPAWN_DELAY);
         }
         
         currentSlider = 0;
@@ -157,23 +169,31 @@ public class UndertaleAttackGunOverlay {
         sliderMoving[0] = true;
     }
     
+    /**
+     * Spawn the remaining sliders one after another, 1 second apart
+     */
+    private void scheduleSliderSpawns() {
+        for (int i = 1; i < NUM_SLIDERS; i++) {
+            final int sliderIndex = i;
+            ClientTimeline.schedule(this, i * SLIDER_SPAWN_DELAY_TICKS, () -> spawnSlider(sliderIndex));
+        }
+    }
+    
+    private void spawnSlider(int sliderIndex) {
+        if (!isActive || allSlidersFinished || sliderSpawned[sliderIndex]) {
+            return;
+        }
+        sliderSpawned[sliderIndex] = true;
+        sliderMoving[sliderIndex] = true;
+        currentSlider = sliderIndex;
+    }
+    
     private void updateCurrentSlider() {
         if (allSlidersFinished) {
             return;
         }
         
-        long currentTime = System.currentTimeMillis();
-        
-        // Check for new sliders to spawn (only via timer, not clicks)
-        for (int i = 0; i < NUM_SLIDERS; i++) {
-            if (!sliderSpawned[i] && currentTime >= sliderSpawnTimes[i]) {
-                sliderSpawned[i] = true;
-                sliderMoving[i] = true;
-                currentSlider = i;
-            }
-        }
-        
-        // Update all moving sliders
+        // Update all moving sliders (new ones are spawned by the timeline)
         for (int i = 0; i < NUM_SLIDERS; i++) {
             if (sliderMoving[i] && !sliderFinished[i] && sliderSpawned[i]) {
                 float currentSpeed = ModConfig.getInstance().getAttackBarSpeedFloat();
@@ -245,34 +265,22 @@ public class UndertaleAttackGunOverlay {
             startSlashAnimation();
         }
         
+        updateResultText();
         showResult = true;
         
         // Send gun attack value to server for scoreboard
         sendGunAttackValueToServer(totalAttackValue);
         
-        // Start fade-out after appropriate delay
-        new Thread(() -> {
-            try {
-                if (totalAttackValue > 0) {
-                    // Wait for slash animation to complete (5 frames * 3 ticks * 50ms per tick = ~0.75 seconds)
-                    Thread.sleep(1500); // Extra buffer time
-                } else {
-                    // No animation, close faster for complete miss
-                    Thread.sleep(1000);
-                }
-                startFadeOut();
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-        }).start();
+        // Start fade-out after appropriate delay - after the slash animation (5 frames * 3 ticks) plus a buffer,
+        // or sooner for a complete miss
+        ClientTimeline.schedule(this, totalAttackValue > 0 ? RESULT_HOLD_AFTER_SLASH_TICKS : RESULT_HOLD_TICKS, this::startFadeOut);
     }
     
     private void startSlashAnimation() {
         if (!slashTexturesLoaded) return;
         
         playingSlashAnimation = true;
-        currentSlashFrame = 0;
-        slashAnimationTicks = 0;
+        slashAnimation = ClientTimeline.tween(SLASH_FRAMES * SLASH_FRAME_DELAY);
     }
     
     private void startColorSequence(int sliderIndex) {
@@ -288,7 +296,7 @@ public class UndertaleAttackGunOverlay {
         }
         
         playingColorSequence = true;
-        colorSequenceStartTime = System.currentTimeMillis();
+        colorSequence = ClientTimeline.tween(COLOR_SEQUENCE_TICKS);
         colorSequenceSliderIndex = sliderIndex; // Track which slider is showing colors
         
         LOGGER.info("Started fast color sequence at slider {} (red→blue→yellow in 0.3s)", sliderIndex);
@@ -296,33 +304,19 @@ public class UndertaleAttackGunOverlay {
     
     private void startFadeOut() {
         fadingOut = true;
-        fadeStartTime = System.currentTimeMillis();
+        fade = ClientTimeline.tween(FADE_TICKS);
         
-        // Start a thread to close overlay when fade is complete
-        new Thread(() -> {
-            try {
-                Thread.sleep(FADE_DURATION + 100); // Wait for fade to complete plus buffer
-                stopGunAttack();
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-        }).start();
+        // Close overlay when fade is complete (plus a small buffer)
+        ClientTimeline.schedule(this, FADE_TICKS + 2, this::stopGunAttack);
     }
     
-    private float getCurrentAlpha() {
-        if (!fadingOut) {
+    private float getCurrentAlpha(float tickDelta) {
+        if (!fadingOut || fade == null) {
             return 1.0f; // Full opacity when not fading
         }
         
-        long currentTime = System.currentTimeMillis();
-        long elapsed = currentTime - fadeStartTime;
-        
-        if (elapsed >= FADE_DURATION) {
-            return 0.0f; // Fully transparent when fade is complete
-        }
-        
-        // Linear fade from 1.0 to 0.0 over FADE_DURATION
-        return 1.0f - (float) elapsed / FADE_DURATION;
+        // Linear fade from 1.0 to 0.0 over FADE_TICKS
+        return 1.0f - fade.progress(tickDelta);
     }
     
     private int applyAlphaToColor(int color, float alpha) {
@@ -339,22 +333,6 @@ public class UndertaleAttackGunOverlay {
         return (newAlpha << 24) | (r << 16) | (g << 8) | b;
     }
     
-    private void updateSlashAnimation() {
-        if (!playingSlashAnimation) return;
-        
-        slashAnimationTicks++;
-        
-        if (slashAnimationTicks >= SLASH_FRAME_DELAY) {
-            slashAnimationTicks = 0;
-            currentSlashFrame++;
-            
-            if (currentSlashFrame >= SLASH_FRAMES) {
-                playingSlashAnimation = false;
-                currentSlashFrame = 0;
-            }
-        }
-    }
-    
     private void loadTextures() {
         MinecraftClient client = MinecraftClient.getInstance();
         
@@ -397,9 +375,9 @@ public class UndertaleAttackGunOverlay {
     }
     
     /**
-     * Get the current slider texture for a specific slider index
+     * Get the current slider sprite for a specific slider index
      */
-    private Identifier getCurrentSliderTexture(int sliderIndex) {
+    private AttackHudRenderer.Sprite getCurrentSliderSprite(int sliderIndex, float tickDelta) {
         // If slider is not spawned, don't render
         if (!sliderSpawned[sliderIndex]) {
             return null;
@@ -414,19 +392,16 @@ public class UndertaleAttackGunOverlay {
                     return null; // Hide slider
                 }
                 
-                long currentTime = System.currentTimeMillis();
-                long elapsed = currentTime - colorSequenceStartTime;
-                
                 // If sequence is complete, hide slider immediately
-                if (elapsed >= COLOR_SEQUENCE_TOTAL_DURATION) {
+                if (colorSequence == null || colorSequence.isFinished()) {
                     playingColorSequence = false; // Stop sequence
                     colorSequenceSliderIndex = -1; // Reset slider index
                     return null; // Hide slider instantly
                 }
                 
                 // Cycle through colors every 0.1 seconds
-                int colorIndex = (int) (elapsed / COLOR_CYCLE_DURATION) % COLOR_SLIDER_TEXTURES.length;
-                return COLOR_SLIDER_TEXTURES[colorIndex];
+                int colorIndex = colorSequence.step(tickDelta, COLOR_CYCLE_TICKS) % COLOR_SLIDER_TEXTURES.length;
+                return AttackHudRenderer.COLOR_SLIDERS[colorIndex];
             } else {
                 // If not the clicked slider or no color sequence, hide slider immediately
                 return null;
@@ -434,7 +409,7 @@ public class UndertaleAttackGunOverlay {
         }
         
         // If slider is still moving, show normal slider
-        return sliderTextureLoaded ? ATTACK_SLIDER_TEXTURE : ATTACK_SLIDER_TEXTURE;
+        return AttackHudRenderer.ATTACK_SLIDER;
     }
     
     public void startGunAttack() {
@@ -444,6 +419,8 @@ public class UndertaleAttackGunOverlay {
         isActive = true;
         currentAttackNumber = 0; // Regular gun attack
         resetSliders();
+        scheduleSliderSpawns();
+        holdTextures();
         
         if (!texturesLoaded) {
             loadTextures();
@@ -457,6 +434,8 @@ public class UndertaleAttackGunOverlay {
         isActive = true;
         currentAttackNumber = attackNumber; // Set the attack number
         resetSliders();
+        scheduleSliderSpawns();
+        holdTextures();
         
         if (!texturesLoaded) {
             loadTextures();
@@ -469,6 +448,26 @@ public class UndertaleAttackGunOverlay {
         isActive = false;
         resetSliders();
         playingSlashAnimation = false;
+        slashAnimation = null;
+        releaseTextures();
+    }
+    
+    /**
+     * Hold the shared attack HUD atlas while this overlay is shown
+     */
+    private void holdTextures() {
+        if (texturesHeld) return;
+        texturesHeld = true;
+        AttackHudRenderer.acquireAtlas();
+    }
+    
+    /**
+     * Let the atlas go once this overlay is hidden
+     */
+    private void releaseTextures() {
+        if (!texturesHeld) return;
+        texturesHeld = false;
+        AttackHudRenderer.releaseAtlas();
     }
     
     public boolean isActive() {
@@ -529,144 +528,132 @@ public class UndertaleAttackGunOverlay {
         }
     }
     
-    private void renderOverlay(DrawContext context, float tickDelta) {
-        if (!isActive || !texturesLoaded) {
-            return;
-        }
-        
-        MinecraftClient client = MinecraftClient.getInstance();
-        if (client.player == null) {
-            return;
-        }
+    @Override
+    public boolean isVisible() {
+        return isActive && texturesLoaded && MinecraftClient.getInstance().player != null;
+    }
+    
+    @Override
+    public void onResize(int screenWidth, int screenHeight) {
+        this.screenWidth = screenWidth;
         
-        int screenWidth = client.getWindow().getScaledWidth();
-        int screenHeight = client.getWindow().getScaledHeight();
+        // Position single frame near hotbar
+        frameX = (screenWidth - FRAME_WIDTH) / 2;
+        frameY = screenHeight - FRAME_HEIGHT - 80;
         
+        // Slash in the center of the screen
+        slashX = (screenWidth - SLASH_SIZE) / 2;
+        slashY = (screenHeight - SLASH_SIZE) / 2;
+    }
+    
+    @Override
+    public void emitQuads(float tickDelta) {
         // Get current alpha for fade effect
-        float alpha = getCurrentAlpha();
+        float alpha = getCurrentAlpha(tickDelta);
         
         if (alpha <= 0.0f) {
             return; // Don't render if fully transparent
         }
         
-        // Apply alpha blending
-        RenderSystem.enableBlend();
-        RenderSystem.setShaderColor(1.0f, 1.0f, 1.0f, alpha);
+        // Fade is applied through the vertex color
+        int tint = applyAlphaToColor(0xFFFFFFFF, alpha);
         
-        // Render attack frames (4 frames vertically stacked)
-        renderGunAttackFrames(context, screenWidth, screenHeight);
+        // Render attack frame
+        AttackHudRenderer.quad(AttackHudRenderer.ATTACK_FRAME, frameX, frameY, FRAME_WIDTH, FRAME_HEIGHT, tint);
         
         // Render sliders
-        renderSliders(context, screenWidth, screenHeight);
-        
-        // Show result if finished
-        if (showResult) {
-            renderResult(context, screenWidth, screenHeight, alpha);
-        }
-        
-        // Reset shader color and disable blending
-        RenderSystem.setShaderColor(1.0f, 1.0f, 1.0f, 1.0f);
-        RenderSystem.disableBlend();
+        renderSliders(tickDelta, tint);
         
         // Render slash animation if playing (without fade effect)
         if (playingSlashAnimation) {
-            renderSlashAnimation(context, screenWidth, screenHeight);
+            renderSlashAnimation(tickDelta);
         }
     }
     
-    private void renderGunAttackFrames(DrawContext context, int screenWidth, int screenHeight) {
-        // Position single frame near hotbar (same as regular attack)
-        int frameX = (screenWidth - FRAME_WIDTH) / 2;
-        int frameY = screenHeight - FRAME_HEIGHT - 80; // Same positioning as regular attack
+    @Override
+    public void drawText(DrawContext context, float tickDelta) {
+        // Show result if finished
+        if (!showResult || resultText == null) return;
         
+        float alpha = getCurrentAlpha(tickDelta);
+        if (alpha <= 0.0f) return;
         
-        // Draw frame texture
-        context.drawTexture(ATTACK_FRAME_TEXTURE, frameX, frameY, 0, 0, FRAME_WIDTH, FRAME_HEIGHT, FRAME_WIDTH, FRAME_HEIGHT);
+        // Centered above the attack frame, individual slider results below the total
+        MinecraftClient client = MinecraftClient.getInstance();
+        int textY = frameY - 30;
+        context.drawText(client.textRenderer, resultText, (screenWidth - resultTextWidth) / 2, textY, applyAlphaToColor(resultColor, alpha), true);
+        context.drawText(client.textRenderer, detailText, (screenWidth - detailTextWidth) / 2, textY + 12, applyAlphaToColor(0xFFFFFFFF, alpha), true);
     }
     
-    private void renderSliders(DrawContext context, int screenWidth, int screenHeight) {
+    private void renderSliders(float tickDelta, int tint) {
         if (!sliderTextureLoaded && !colorSlidersLoaded) return;
         
-        int frameX = (screenWidth - FRAME_WIDTH) / 2;
-        int frameY = screenHeight - FRAME_HEIGHT - 80;
-        
         for (int i = 0; i < NUM_SLIDERS; i++) {
-            // Get the current slider texture for this specific slider (normal, color sequence, or null)
-            Identifier currentSliderTexture = getCurrentSliderTexture(i);
+            // Get the current slider sprite for this specific slider (normal, color sequence, or null)
+            AttackHudRenderer.Sprite currentSliderSprite = getCurrentSliderSprite(i, tickDelta);
             
             // If null, slider should be hidden (finished or not spawned)
-            if (currentSliderTexture == null) {
+            if (currentSliderSprite == null) {
                 continue; // Skip rendering this slider
             }
             
-            // Calculate slider position within the frame (same as regular attack slider)
-            int sliderX = frameX + (int)(sliderPositions[i] * (FRAME_WIDTH - SLIDER_WIDTH));
+            // Calculate slider position within the frame (same as regular attack slider), interpolated between ticks
+            float drawnPosition = sliderMoving[i] && !sliderFinished[i]
+                    ? Math.min(1.0f, sliderPositions[i] + ModConfig.getInstance().getAttackBarSpeedFloat() * tickDelta)
+                    : sliderPositions[i];
+            int sliderX = frameX + (int)(drawnPosition * (FRAME_WIDTH - SLIDER_WIDTH));
             int sliderY = frameY + (FRAME_HEIGHT - SLIDER_HEIGHT) / 2; // All sliders at same position
             
-            // Draw slider using normal or color cycling texture
-            context.drawTexture(currentSliderTexture, sliderX, sliderY, 0, 0, SLIDER_WIDTH, SLIDER_HEIGHT, SLIDER_WIDTH, SLIDER_HEIGHT);
+            // Draw slider using normal or color cycling sprite
+            AttackHudRenderer.quad(currentSliderSprite, sliderX, sliderY, SLIDER_WIDTH, SLIDER_HEIGHT, tint);
         }
     }
     
-    private void renderResult(DrawContext context, int screenWidth, int screenHeight, float alpha) {
+    /**
+     * Build the result text once when all sliders are done
+     */
+    private void updateResultText() {
         // Show the gun attack result value with color coding
-        String displayText;
-        int textColor;
-        
         if (totalAttackValue >= 360) { // 90% of 400 max
-            displayText = "PERFECT! (" + totalAttackValue + "/400)";
-            textColor = applyAlphaToColor(0xFF00FF00, alpha); // Green
+            resultText = "PERFECT! (" + totalAttackValue + "/400)";
+            resultColor = 0xFF00FF00; // Green
         } else if (totalAttackValue >= 280) { // 70% of 400 max
-            displayText = "Great! (" + totalAttackValue + "/400)";
-            textColor = applyAlphaToColor(0xFF80FF80, alpha); // Light Green
+            resultText = "Great! (" + totalAttackValue + "/400)";
+            resultColor = 0xFF80FF80; // Light Green
         } else if (totalAttackValue >= 200) { // 50% of 400 max
-            displayText = "Good! (" + totalAttackValue + "/400)";
-            textColor = applyAlphaToColor(0xFFFFFF00, alpha); // Yellow
+            resultText = "Good! (" + totalAttackValue + "/400)";
+            resultColor = 0xFFFFFF00; // Yellow
         } else if (totalAttackValue >= 100) { // 25% of 400 max
-            displayText = "Okay (" + totalAttackValue + "/400)";
-            textColor = applyAlphaToColor(0xFFFF8800, alpha); // Orange
+            resultText = "Okay (" + totalAttackValue + "/400)";
+            resultColor = 0xFFFF8800; // Orange
         } else {
-            displayText = "Miss... (" + totalAttackValue + "/400)";
-            textColor = applyAlphaToColor(0xFFFF0000, alpha); // Red
+            resultText = "Miss... (" + totalAttackValue + "/400)";
+            resultColor = 0xFFFF0000; // Red
         }
         
         // Show individual slider results
-        StringBuilder detailText = new StringBuilder("Hits: ");
+        StringBuilder detail = new StringBuilder("Hits: ");
         for (int i = 0; i < NUM_SLIDERS; i++) {
-            if (i > 0) detailText.append(", ");
-            detailText.append(attackValues[i]);
+            if (i > 0) detail.append(", ");
+            detail.append(attackValues[i]);
         }
+        detailText = detail.toString();
         
-        // Position text centered above the attack frame (same as regular attack)
-        int frameX = (screenWidth - FRAME_WIDTH) / 2;
-        int frameY = screenHeight - FRAME_HEIGHT - 80;
-        int textWidth = MinecraftClient.getInstance().textRenderer.getWidth(displayText);
-        int textX = (screenWidth - textWidth) / 2;
-        int textY = frameY - 30;
-        
-        context.drawText(MinecraftClient.getInstance().textRenderer, displayText, textX, textY, textColor, true);
-        
-        // Center the detail text as well
-        int detailWidth = MinecraftClient.getInstance().textRenderer.getWidth(detailText.toString());
-        int detailX = (screenWidth - detailWidth) / 2;
-        int detailColor = applyAlphaToColor(0xFFFFFFFF, alpha); // White text with alpha
-        context.drawText(MinecraftClient.getInstance().textRenderer, detailText.toString(), detailX, textY + 12, detailColor, true);
+        MinecraftClient client = MinecraftClient.getInstance();
+        resultTextWidth = client.textRenderer.getWidth(resultText);
+        detailTextWidth = client.textRenderer.getWidth(detailText);
     }
     
-    private void renderSlashAnimation(DrawContext context, int screenWidth, int screenHeight) {
-        if (currentSlashFrame < 0 || currentSlashFrame >= SLASH_FRAMES) return;
-        
-        // Get current slash texture
-        Identifier currentSlashTexture = SLASH_TEXTURES.get(currentSlashFrame);
+    private void renderSlashAnimation(float tickDelta) {
+        if (slashAnimation == null || slashAnimation.isFinished()) {
+            playingSlashAnimation = false;
+            return;
+        }
         
-        // Render in center of screen - 2x smaller than original size
-        int slashWidth = 100;  // Half the original size
-        int slashHeight = 100; // Half the original size
-        int slashX = (screenWidth - slashWidth) / 2;
-        int slashY = (screenHeight - slashHeight) / 2;
+        int currentSlashFrame = Math.min(SLASH_FRAMES - 1, slashAnimation.step(tickDelta, SLASH_FRAME_DELAY));
         
-        // Draw the current slash frame
-        context.drawTexture(currentSlashTexture, slashX, slashY, 0, 0, slashWidth, slashHeight, slashWidth, slashHeight);
+        // Draw the current slash frame at full opacity
+        AttackHudRenderer.quad(AttackHudRenderer.SLASH[currentSlashFrame], slashX, slashY, SLASH_SIZE, SLASH_SIZE, 0xFFFFFFFF);
     }
     
 }
\ No newline at end of file
@@ -2,7 +2,6 @@ package com.g2806.undertaleextinct;
 
 import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
 import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking;
-import net.fabricmc.fabric.api.client.rendering.v1.HudRenderCallback;
 import net.fabricmc.fabric.api.networking.v1.PacketByteBufs;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.gui.DrawContext;
@@ -11,7 +10,6 @@ import net.minecraft.util.Identifier;
 import org.lwjgl.glfw.GLFW;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import com.mojang.blaze3d.systems.RenderSystem;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -19,7 +17,7 @@ import java.util.List;
 /**
  * Undertale attack overlay that renders on the HUD (similar to AnimationPlayer)
  */
-public class UndertaleAttackOverlay {
+public class UndertaleAttackOverlay implements AttackHudRenderer.Layer {
     private static final Logger LOGGER = LoggerFactory.getLogger("UndertaleAttackOverlay");
     private static final String MOD_ID = "undertaleextinct";
     
@@ -34,7 +32,7 @@ public class UndertaleAttackOverlay {
     private static final Identifier[] COLOR_SLIDER_TEXTURES = {RED_SLIDER_TEXTURE, BLUE_SLIDER_TEXTURE, YELLOW_SLIDER_TEXTURE};
     
     // Color cycling timing
-    private static final long COLOR_CYCLE_DURATION = 100; // 0.1 seconds in milliseconds
+    private static final int COLOR_CYCLE_TICKS = 2; // 0.1 seconds per color
     
     
     // Overlay state
@@ -42,11 +40,23 @@ public class UndertaleAttackOverlay {
     private boolean texturesLoaded = false;
     private boolean sliderTextureLoaded = false;
     private boolean colorSlidersLoaded = false;
+    private boolean texturesHeld = false; // Atlas reference held while shown
+    
+    // Layout, recomputed only when the window is resized
+    private int screenWidth = 0;
+    private int frameX = 0;
+    private int frameY = 0;
+    
+    // Result text, built once per attack instead of every frame
+    private String resultText = null;
+    private int resultColor = 0xFFFFFFFF;
+    private int resultTextWidth = 0;
     
     // Fade-out effect
     private boolean fadingOut = false;
-    private long fadeStartTime = 0;
-    private static final long FADE_DURATION = 1000; // 1 second fade out
+    private ClientTimeline.Tween fade = null;
+    private static final int FADE_TICKS = 20; // 1 second fade out
+    private static final int RESULT_HOLD_TICKS = 20; // Result stays fully visible for 1 second
     
     // Frame dimensions (smaller and thicker for better positioning)
     private static final int FRAME_WIDTH = 541;  // Even smaller width
@@ -67,24 +77,16 @@ public class UndertaleAttackOverlay {
     
     // Color cycling state (only after click)
     private boolean playingColorSequence = false;
-    private long colorSequenceStartTime = 0;
-    private static final long COLOR_SEQUENCE_TOTAL_DURATION = 300; // 0.3 seconds total (3 colors × 0.1s each)
+    private ClientTimeline.Tween colorSequence = null;
+    private static final int COLOR_SEQUENCE_TICKS = 6; // 0.3 seconds total (3 colors × 0.1s each)
     
     
     public UndertaleAttackOverlay() {
-        registerHudRender();
+        // Drawn by the shared attack HUD renderer
+        AttackHudRenderer.addLayer(this);
         registerEvents();
     }
     
-    private void registerHudRender() {
-        // Register HUD render callback (similar to AnimationPlayer)
-        HudRenderCallback.EVENT.register((drawContext, tickDelta) -> {
-            if (isActive) {
-                renderAttackOverlay(drawContext, tickDelta);
-            }
-        });
-    }
-    
     private void registerEvents() {
         // Register tick events for slider animation, slash animation, and input checking
         ClientTickEvents.END_CLIENT_TICK.register(client -> {
@@ -150,6 +152,7 @@ public class UndertaleAttackOverlay {
         // Convert distance to score: 0 distance = 100 score, 50 distance = 0 score
         attackValue = Math.round(100 - (distanceFrom50 * 2)); // Linear scoring
         attackValue = Math.max(0, Math.min(100, attackValue)); // Clamp to 0-100
+        updateResultText();
         
         // Only start color sequence if slider was clicked (not if it reached the end)
         if (wasClicked) {
@@ -163,14 +166,7 @@ public class UndertaleAttackOverlay {
         sendAttackValueToServer(attackValue);
         
         // Start fade-out after delay
-        new Thread(() -> {
-            try {
-                Thread.sleep(1000);
-                startFadeOut();
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-        }).start();
+        ClientTimeline.schedule(this, RESULT_HOLD_TICKS, this::startFadeOut);
     }
     
     
@@ -187,40 +183,26 @@ public class UndertaleAttackOverlay {
         }
         
         playingColorSequence = true;
-        colorSequenceStartTime = System.currentTimeMillis();
+        colorSequence = ClientTimeline.tween(COLOR_SEQUENCE_TICKS);
         
         LOGGER.info("Started fast color sequence (red→blue→yellow in 0.3s)");
     }
     
     private void startFadeOut() {
         fadingOut = true;
-        fadeStartTime = System.currentTimeMillis();
-        
-        // Start a thread to close overlay when fade is complete
-        new Thread(() -> {
-            try {
-                Thread.sleep(FADE_DURATION + 100); // Wait for fade to complete plus buffer
-                stopAttack();
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-        }).start();
+        fade = ClientTimeline.tween(FADE_TICKS);
+        
+        // Close overlay when fade is complete (plus a small buffer)
+        ClientTimeline.schedule(this, FADE_TICKS + 2, this::stopAttack);
     }
     
-    private float getCurrentAlpha() {
-        if (!fadingOut) {
+    private float getCurrentAlpha(float tickDelta) {
+        if (!fadingOut || fade == null) {
             return 1.0f; // Full opacity when not fading
         }
         
-        long currentTime = System.currentTimeMillis();
-        long elapsed = currentTime - fadeStartTime;
-        
-        if (elapsed >= FADE_DURATION) {
-            return 0.0f; // Fully transparent when fade is complete
-        }
-        
-        // Linear fade from 1.0 to 0.0 over FADE_DURATION
-        return 1.0f - (float) elapsed / FADE_DURATION;
+        // Linear fade from 1.0 to 0.0 over FADE_TICKS
+        return 1.0f - fade.progress(tickDelta);
     }
     
     private int applyAlphaToColor(int color, float alpha) {
@@ -316,7 +298,7 @@ public class UndertaleAttackOverlay {
     /**
      * Get the current slider texture - normal until finished, then color sequence or null
      */
-    private Identifier getCurrentSliderTexture() {
+    private AttackHudRenderer.Sprite getCurrentSliderSprite(float tickDelta) {
         // If slider is finished (either clicked or reached end), check what to show
         if (sliderFinished) {
             // If playing color sequence (clicked), show colors
@@ -326,18 +308,15 @@ public class UndertaleAttackOverlay {
                     return null; // Hide slider
                 }
                 
-                long currentTime = System.currentTimeMillis();
-                long elapsed = currentTime - colorSequenceStartTime;
-                
                 // If sequence is complete, hide slider immediately
-                if (elapsed >= COLOR_SEQUENCE_TOTAL_DURATION) {
+                if (colorSequence == null || colorSequence.isFinished()) {
                     playingColorSequence = false; // Stop sequence
                     return null; // Hide slider instantly
                 }
                 
-                // Cycle through colors every 0.5 seconds
-                int colorIndex = (int) (elapsed / COLOR_CYCLE_DURATION) % COLOR_SLIDER_TEXTURES.length;
-                return COLOR_SLIDER_TEXTURES[colorIndex];
+                // Cycle through colors every 0.1 seconds
+                int colorIndex = colorSequence.step(tickDelta, COLOR_CYCLE_TICKS) % COLOR_SLIDER_TEXTURES.length;
+                return AttackHudRenderer.COLOR_SLIDERS[colorIndex];
             } else {
                 // If not playing color sequence (reached end), hide slider immediately
                 return null;
@@ -345,129 +324,110 @@ public class UndertaleAttackOverlay {
         }
         
         // If slider is still moving, show normal slider
-        return sliderTextureLoaded ? ATTACK_SLIDER_TEXTURE : ATTACK_SLIDER_TEXTURE;
+        return AttackHudRenderer.ATTACK_SLIDER;
     }
     
-    private void renderAttackOverlay(DrawContext context, float tickDelta) {
-        MinecraftClient client = MinecraftClient.getInstance();
-        if (client == null) return;
+    @Override
+    public boolean isVisible() {
+        return isActive;
+    }
+    
+    @Override
+    public void onResize(int screenWidth, int screenHeight) {
+        this.screenWidth = screenWidth;
         
+        // Position closer to hotbar
+        frameX = (screenWidth - FRAME_WIDTH) / 2;
+        frameY = screenHeight - FRAME_HEIGHT - 30; // Only 30 pixels above bottom (closer to hotbar)
+    }
+    
+    @Override
+    public void emitQuads(float tickDelta) {
         // Get current alpha for fade effect
-        float alpha = getCurrentAlpha();
+        float alpha = getCurrentAlpha(tickDelta);
         
         if (alpha <= 0.0f) {
             return; // Don't render if fully transparent
         }
         
-        // Get screen dimensions
-        int screenWidth = client.getWindow().getScaledWidth();
-        int screenHeight = client.getWindow().getScaledHeight();
-        
-        // Position closer to hotbar
-        int frameX = (screenWidth - FRAME_WIDTH) / 2;
-        int frameY = screenHeight - FRAME_HEIGHT - 30; // Only 30 pixels above bottom (closer to hotbar)
-        
-        // Apply alpha blending
-        RenderSystem.enableBlend();
-        RenderSystem.setShaderColor(1.0f, 1.0f, 1.0f, alpha);
+        // Fade is applied through the vertex color
+        int tint = applyAlphaToColor(0xFFFFFFFF, alpha);
         
         if (texturesLoaded) {
             // Render attack frame texture
-            context.drawTexture(ATTACK_FRAME_TEXTURE, frameX, frameY, 0, 0, FRAME_WIDTH, FRAME_HEIGHT, FRAME_WIDTH, FRAME_HEIGHT);
+            AttackHudRenderer.quad(AttackHudRenderer.ATTACK_FRAME, frameX, frameY, FRAME_WIDTH, FRAME_HEIGHT, tint);
         }
         
         // Render sliding attack meter
-        renderSlider(context, frameX, frameY, client);
-        
-        // Show step text or result
-        String displayText;
-        int textColor;
-        
-        if (showResult) {
-            // Show the attack result value (higher score is better now)
-            if (attackValue >= 90) {
-                displayText = "PERFECT! (" + attackValue + ")";
-                textColor = applyAlphaToColor(0xFF00FF00, alpha); // Green
-            } else if (attackValue >= 70) {
-                displayText = "Great! (" + attackValue + ")";
-                textColor = applyAlphaToColor(0xFF80FF80, alpha); // Light Green
-            } else if (attackValue >= 50) {
-                displayText = "Good! (" + attackValue + ")";
-                textColor = applyAlphaToColor(0xFFFFFF00, alpha); // Yellow
-            } else if (attackValue >= 25) {
-                displayText = "Okay (" + attackValue + ")";
-                textColor = applyAlphaToColor(0xFFFF8800, alpha); // Orange
-            } else {
-                displayText = "Miss... (" + attackValue + ")";
-                textColor = applyAlphaToColor(0xFFFF0000, alpha); // Red
-            }
-        } else {
-            // No text when slider is moving or waiting
-            displayText = null;
-            textColor = 0xFFFFFFFF; // White (unused)
-        }
-        
-        // Draw text centered above the frame (only if there's text to show)
-        if (displayText != null) {
-            int textWidth = client.textRenderer.getWidth(displayText);
-            int textX = (screenWidth - textWidth) / 2;
-            int textY = frameY - 30;
-            
-            context.drawText(client.textRenderer, displayText, textX, textY, textColor, true);
-        }
-        
-        // Reset shader color and disable blending
-        RenderSystem.setShaderColor(1.0f, 1.0f, 1.0f, 1.0f);
-        RenderSystem.disableBlend();
-        
-        
-        LOGGER.debug("Rendering attack overlay at position ({}, {})", frameX, frameY);
+        renderSlider(tickDelta, alpha, tint);
     }
     
-    private int applyFadeToColor(int color, float alpha) {
-        int a = (int) (((color >> 24) & 0xFF) * alpha);
-        int r = (color >> 16) & 0xFF;
-        int g = (color >> 8) & 0xFF;
-        int b = color & 0xFF;
-        return (a << 24) | (r << 16) | (g << 8) | b;
+    @Override
+    public void drawText(DrawContext context, float tickDelta) {
+        // Only the result has text - nothing while the slider is moving or waiting
+        if (!showResult || resultText == null) return;
+        
+        float alpha = getCurrentAlpha(tickDelta);
+        if (alpha <= 0.0f) return;
+        
+        // Draw text centered above the frame
+        int textX = (screenWidth - resultTextWidth) / 2;
+        int textY = frameY - 30;
+        context.drawText(MinecraftClient.getInstance().textRenderer, resultText, textX, textY, applyAlphaToColor(resultColor, alpha), true);
     }
     
-    private void renderTextureWithFade(DrawContext context, Identifier texture, int x, int y, int width, int height, float fadeAlpha) {
-        // For now, DrawContext doesn't have built-in alpha blending for textures
-        // This is a placeholder - in practice, you'd need to use a shader or matrix transform
-        // For demonstration, we'll just render normally when alpha > 0.1, otherwise skip
-        if (fadeAlpha > 0.1f) {
-            context.drawTexture(texture, x, y, 0, 0, width, height, width, height);
+    /**
+     * Build the result text once when the attack value is known
+     */
+    private void updateResultText() {
+        // Show the attack result value (higher score is better now)
+        if (attackValue >= 90) {
+            resultText = "PERFECT! (" + attackValue + ")";
+            resultColor = 0xFF00FF00; // Green
+        } else if (attackValue >= 70) {
+            resultText = "Great! (" + attackValue + ")";
+            resultColor = 0xFF80FF80; // Light Green
+        } else if (attackValue >= 50) {
+            resultText = "Good! (" + attackValue + ")";
+            resultColor = 0xFFFFFF00; // Yellow
+        } else if (attackValue >= 25) {
+            resultText = "Okay (" + attackValue + ")";
+            resultColor = 0xFFFF8800; // Orange
+        } else {
+            resultText = "Miss... (" + attackValue + ")";
+            resultColor = 0xFFFF0000; // Red
         }
+        resultTextWidth = MinecraftClient.getInstance().textRenderer.getWidth(resultText);
     }
     
-    private void renderSlider(DrawContext context, int frameX, int frameY, MinecraftClient client) {
-        // Calculate slider position - moves across the middle of the frame
+    private void renderSlider(float tickDelta, float alpha, int tint) {
+        // Calculate slider position - moves across the middle of the frame, interpolated between ticks
         int sliderAreaWidth = FRAME_WIDTH - SLIDER_WIDTH; // Available area for slider movement
-        int sliderX = frameX + (int)(sliderPosition * sliderAreaWidth);
+        float drawnPosition = sliderMoving
+                ? Math.min(1.0f, sliderPosition + ModConfig.getInstance().getAttackBarSpeedFloat() * tickDelta)
+                : sliderPosition;
+        int sliderX = frameX + (int)(drawnPosition * sliderAreaWidth);
         
         // Position slider in the middle (vertically) of the frame
         // Since slider height (120) is taller than frame height (90), center it vertically
         int sliderY = frameY + (FRAME_HEIGHT / 2) - (SLIDER_HEIGHT / 2);
         
-        // Get the current slider texture (normal or color sequence)
-        Identifier currentSliderTexture = getCurrentSliderTexture();
+        // Get the current slider sprite (normal or color sequence)
+        AttackHudRenderer.Sprite currentSliderSprite = getCurrentSliderSprite(tickDelta);
         
         // If null, slider should be hidden (color sequence finished)
-        if (currentSliderTexture == null) {
+        if (currentSliderSprite == null) {
             return; // Don't render slider
         }
         
         if (sliderTextureLoaded || colorSlidersLoaded) {
-            // Render the slider texture (normal or color sequence)
-            context.drawTexture(currentSliderTexture, sliderX, sliderY, 0, 0, SLIDER_WIDTH, SLIDER_HEIGHT, SLIDER_WIDTH, SLIDER_HEIGHT);
+            // Render the slider sprite (normal or color sequence)
+            AttackHudRenderer.quad(currentSliderSprite, sliderX, sliderY, SLIDER_WIDTH, SLIDER_HEIGHT, tint);
         } else {
             // Fallback: red rectangle slider
-            int sliderColor = 0xFFFF0000; // Red
-            context.fill(sliderX, sliderY, sliderX + SLIDER_WIDTH, sliderY + SLIDER_HEIGHT, sliderColor);
+            int sliderColor = applyAlphaToColor(0xFFFF0000, alpha); // Red
+            AttackHudRenderer.fill(sliderX, sliderY, sliderX + SLIDER_WIDTH, sliderY + SLIDER_HEIGHT, sliderColor);
         }
-        
-        LOGGER.debug("Rendering slider at position ({}, {}) with slider position {}", sliderX, sliderY, sliderPosition);
     }
     
     
@@ -487,11 +447,15 @@ public class UndertaleAttackOverlay {
         showResult = false;
         currentAttackNumber = 0; // Regular attack
         
-        // Reset color sequence state
+        // Reset color sequence state, and drop fades still pending from a previous attack
         playingColorSequence = false;
-        colorSequenceStartTime = 0;
+        colorSequence = null;
+        fadingOut = false;
+        fade = null;
+        ClientTimeline.cancelAll(this);
         
         isActive = true;
+        holdTextures();
         LOGGER.info("Attack overlay started - slider moves left to right, click to stop!");
     }
     
@@ -511,11 +475,15 @@ public class UndertaleAttackOverlay {
         showResult = false;
         currentAttackNumber = attackNumber; // Set the attack number
         
-        // Reset color sequence state
+        // Reset color sequence state, and drop fades still pending from a previous attack
         playingColorSequence = false;
-        colorSequenceStartTime = 0;
+        colorSequence = null;
+        fadingOut = false;
+        fade = null;
+        ClientTimeline.cancelAll(this);
         
         isActive = true;
+        holdTextures();
         LOGGER.info("Numbered attack overlay {} started - slider moves left to right, click to stop!", attackNumber);
     }
     
@@ -530,13 +498,33 @@ public class UndertaleAttackOverlay {
         showResult = false;
         attackValue = 0;
         
-        // Reset fade-out state
+        // Reset fade-out state and cancel anything still scheduled
         fadingOut = false;
-        fadeStartTime = 0;
+        fade = null;
+        ClientTimeline.cancelAll(this);
         
+        releaseTextures();
         LOGGER.info("Attack overlay stopped");
     }
     
+    /**
+     * Hold the shared attack HUD atlas while this overlay is shown
+     */
+    private void holdTextures() {
+        if (texturesHeld) return;
+        texturesHeld = true;
+        AttackHudRenderer.acquireAtlas();
+    }
+    
+    /**
+     * Let the atlas go once this overlay is hidden
+     */
+    private void releaseTextures() {
+        if (!texturesHeld) return;
+        texturesHeld = false;
+        AttackHudRenderer.releaseAtlas();
+    }
+    
     /**
      * Check if overlay is currently active
      */
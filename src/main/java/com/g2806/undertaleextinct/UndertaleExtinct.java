@@ -39,18 +39,21 @@ import net.minecraft.server.world.ServerWorld;
 import net.minecraft.text.Text;
 import net.minecraft.util.ActionResult;
 import net.minecraft.util.Identifier;
+import net.minecraft.util.WorldSavePath;
 import net.minecraft.world.PersistentState;
 import net.minecraft.world.PersistentStateManager;
 import net.minecraft.client.MinecraftClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.file.Path;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 
 public class UndertaleExtinct implements ModInitializer {
     public static final String MOD_ID = "undertaleextinct";
     public static final Logger LOGGER = LoggerFactory.getLogger(MOD_ID);
+    private static final String DATA_ID = MOD_ID + "_data";
 
     // Configuration
     private static int EXTINCTION_THRESHOLD = 500;
@@ -63,9 +66,11 @@ public class UndertaleExtinct implements ModInitializer {
     private static boolean isEndSaved = false;
     private static final Set<Identifier> purgedMobs = ConcurrentHashMap.newKeySet();
     private static final Set<Identifier> extinctMobs = ConcurrentHashMap.newKeySet();
-    private static final Map<Identifier, Integer> killCounts = new ConcurrentHashMap<>();
     private static final Map<UUID, Identifier> nextKillTargets = new ConcurrentHashMap<>();
 
+    // Read-only view of purgedMobs/extinctMobs by raw registry id, republished on every change
+    private static volatile CursedTypeSnapshot cursedTypes = CursedTypeSnapshot.EMPTY;
+
     // All vanilla hostile and neutral mobs that can be made extinct
     private static final Set<Identifier> VANILLA_MOBS = Set.of(
         // Hostile mobs
@@ -120,9 +125,6 @@ public class UndertaleExtinct implements ModInitializer {
 
     private static boolean allVanillaMobsExtinctNotified = false;
     private static boolean allMobSpawningDisabled = false;
-    
-    // Animation player instance
-    private static AnimationPlayer animationPlayer;
 
     @Override
     public void onInitialize() {
@@ -131,8 +133,6 @@ public class UndertaleExtinct implements ModInitializer {
         // Initialize config
         config = ModConfig.getInstance();
 
-        // Initialize animation player
-        animationPlayer = new AnimationPlayer();
 
         // Initialize networking
         UndertaleNetworking.registerServerPackets();
@@ -168,24 +168,29 @@ public class UndertaleExtinct implements ModInitializer {
                                 // Add to purged list
                                 purgedMobs.add(mobId);
                                 extinctMobs.add(mobId);
+                                publishCursedTypes();
+                                ExtinctionJournal.logCurseAdded(mobId, true);
+                                markDataDirty();
 
-                                // Kill all existing mobs of this type
-                                MinecraftServer server = context.getSource().getServer();
-                                int killedCount = 0;
-                                for (ServerWorld world : server.getWorlds()) {
-                                    for (Object entityObj : world.getEntitiesByType(entityType, livingEntity -> livingEntity.isAlive())) {
-                                        if (entityObj instanceof MobEntity mobEntity) {
-                                            mobEntity.damage(world.getDamageSources().genericKill(), Float.MAX_VALUE);
-                                            killedCount++;
-                                        }
-                                    }
-                                }
-
-                                final int finalKilledCount = killedCount;
+                                // Kill all existing mobs of this type over the next ticks
+                                ServerCommandSource source = context.getSource();
                                 final String mobName = entityType.getName().getString();
-                                context.getSource().sendFeedback(() ->
-                                        Text.literal("§4💀 EXTERMINATED " + finalKilledCount + " " + mobName +
-                                                " and marked them as extinct!"), false);
+                                source.sendFeedback(() ->
+                                        Text.literal("§4" + mobName + " marked as extinct! Exterminating the survivors..."), false);
+                                ExtinctionSweep.start(source.getServer(), "exterminate " + mobId, List.of(entityType), false,
+                                        new ExtinctionSweep.Listener() {
+                                            @Override
+                                            public void onProgress(int killed, int estimatedTotal) {
+                                                source.sendFeedback(() -> Text.literal("§7Exterminating " + mobName + ": §c" + killed + "§7/§f~" + estimatedTotal), false);
+                                            }
+
+                                            @Override
+                                            public void onComplete(int killed, boolean cancelled) {
+                                                source.sendFeedback(() ->
+                                                        Text.literal((cancelled ? "§7Extermination cancelled after " : "§4💀 EXTERMINATED ") +
+                                                                killed + " " + mobName + (cancelled ? "." : " and marked them as extinct!")), false);
+                                            }
+                                        });
                                 return 1;
                             })));
             dispatcher.register(CommandManager.literal("removecurse")
@@ -202,7 +207,10 @@ public class UndertaleExtinct implements ModInitializer {
                                 if (extinctMobs.remove(mobId)) {
                                     wasRemoved = true;
                                 }
-                                killCounts.remove(mobId);
+                                KillCounter.reset(mobId);
+                                publishCursedTypes();
+                                ExtinctionJournal.logCurseRemoved(mobId);
+                                markDataDirty();
 
                                 if (wasRemoved) {
                                     context.getSource().sendFeedback(() ->
@@ -219,10 +227,14 @@ public class UndertaleExtinct implements ModInitializer {
                     .requires(source -> source.hasPermissionLevel(2))
                     .executes(context -> {
                         int total = purgedMobs.size() + extinctMobs.size();
+                        ExtinctionSweep.cancelAll(); // Nothing is left to exterminate
                         purgedMobs.clear();
                         extinctMobs.clear();
-                        killCounts.clear();
+                        KillCounter.clear();
                         nextKillTargets.clear();
+                        publishCursedTypes();
+                        ExtinctionJournal.logCursesCleared();
+                        markDataDirty();
 
                         context.getSource().sendFeedback(() ->
                                 Text.literal("§aAll curses removed! " + total + " mob types can spawn again."), false);
@@ -234,6 +246,8 @@ public class UndertaleExtinct implements ModInitializer {
                     .requires(source -> source.hasPermissionLevel(2))
                     .executes(context -> {
                         isPurgeActive = true;
+                        journalFlags();
+                        markDataDirty();
                         context.getSource().sendFeedback(() ->
                                 Text.literal("§4UNDERTALE PURGE ACTIVATED! Kill counting has begun..."), false);
                         return 1;
@@ -243,6 +257,8 @@ public class UndertaleExtinct implements ModInitializer {
                     .requires(source -> source.hasPermissionLevel(2))
                     .executes(context -> {
                         isPurgeActive = false;
+                        journalFlags();
+                        markDataDirty();
                         context.getSource().sendFeedback(() ->
                                 Text.literal("§6Undertale purge stopped. Kill counting paused."), false);
                         return 1;
@@ -252,12 +268,17 @@ public class UndertaleExtinct implements ModInitializer {
                     .requires(source -> source.hasPermissionLevel(2))
                     .executes(context -> {
                         isPurgeActive = false;
+                        ExtinctionSweep.cancelAll(); // Nothing is left to exterminate
                         purgedMobs.clear();
                         extinctMobs.clear();
-                        killCounts.clear();
+                        KillCounter.clear();
                         nextKillTargets.clear();
+                        publishCursedTypes();
                         allVanillaMobsExtinctNotified = false; // Reset vanilla extinction notification
                         allMobSpawningDisabled = false; // Re-enable mob spawning
+                        ExtinctionJournal.logCursesCleared();
+                        journalFlags();
+                        markDataDirty();
 
                         // Reset scoreboard objective for world purge status
                         ServerCommandSource source = context.getSource();
@@ -287,9 +308,9 @@ public class UndertaleExtinct implements ModInitializer {
                         source.sendFeedback(() -> Text.literal("§7Purged Species: §c" + purgedMobs.size()), false);
                         source.sendFeedback(() -> Text.literal("§7Extinct Species: §4" + extinctMobs.size()), false);
 
-                        if (!killCounts.isEmpty()) {
+                        if (!KillCounter.isEmpty()) {
                             source.sendFeedback(() -> Text.literal("§6Current Monster Kill Counts:"), false);
-                            killCounts.entrySet().stream()
+                            KillCounter.snapshot().entrySet().stream()
                                     .sorted(Map.Entry.<Identifier, Integer>comparingByValue().reversed())
                                     .limit(10)
                                     .forEach(entry -> {
@@ -300,12 +321,82 @@ public class UndertaleExtinct implements ModInitializer {
                         return 1;
                     }));
 
+            // Command to inspect or cancel running extinction sweeps (admin command)
+            dispatcher.register(CommandManager.literal("undertalesweep")
+                    .requires(source -> source.hasPermissionLevel(2))
+                    .then(CommandManager.literal("cancel")
+                            .executes(context -> {
+                                int cancelled = ExtinctionSweep.cancelAll();
+                                context.getSource().sendFeedback(() -> Text.literal(cancelled > 0 ?
+                                        "§6Cancelled " + cancelled + " extinction sweep(s). Remaining cursed mobs are left to the regular cleanup." :
+                                        "§7No extinction sweep is running."), false);
+                                return cancelled;
+                            }))
+                    .then(CommandManager.literal("regions")
+                            .executes(context -> {
+                                ServerCommandSource source = context.getSource();
+                                if (RegionEntitySweeper.isRunning()) {
+                                    source.sendFeedback(() -> Text.literal("§cA region sweep is already running."), false);
+                                    return 0;
+                                }
+
+                                Set<String> cursedIds = new HashSet<>();
+                                for (Identifier mobId : purgedMobs) cursedIds.add(mobId.toString());
+                                for (Identifier mobId : extinctMobs) cursedIds.add(mobId.toString());
+                                if (cursedIds.isEmpty()) {
+                                    source.sendFeedback(() -> Text.literal("§7No mob types are cursed - nothing to sweep."), false);
+                                    return 0;
+                                }
+
+                                // Flush all entity chunks to disk so the region files are current
+                                MinecraftServer server = source.getServer();
+                                source.sendFeedback(() -> Text.literal("§6Saving world before scanning unloaded chunks..."), false);
+                                server.saveAll(true, true, true);
+
+                                RegionEntitySweeper.start(server, cursedIds, stats -> {
+                                    String scannedMb = String.format("%.1f", stats.bytesScanned.get() / (1024.0 * 1024.0));
+                                    source.sendFeedback(() -> Text.literal("§4💀 Region sweep complete! §7Removed §c" + stats.entitiesRemoved.get() +
+                                            "§7 cursed mobs from §f" + stats.chunksRewritten.get() + "§7 unloaded chunks."), false);
+                                    source.sendFeedback(() -> Text.literal("§7Scanned §f" + scannedMb + " MB§7 in §f" + stats.regionFiles.get() +
+                                            "§7 region files (" + stats.chunksSkipped.get() + " chunks skipped)."), false);
+                                });
+                                source.sendFeedback(() -> Text.literal("§6Scanning entity region files for " + cursedIds.size() + " cursed mob types..."), false);
+                                return 1;
+                            }))
+                    .executes(context -> {
+                        ServerCommandSource source = context.getSource();
+                        if (!ExtinctionSweep.isRunning()) {
+                            source.sendFeedback(() -> Text.literal("§7No extinction sweep is running."), false);
+                            return 0;
+                        }
+                        source.sendFeedback(() -> Text.literal("§6=== EXTINCTION SWEEPS ==="), false);
+                        for (String line : ExtinctionSweep.describe()) {
+                            source.sendFeedback(() -> Text.literal("§7- " + line), false);
+                        }
+                        return 1;
+                    }));
+
+            // Command to show where the mod spends server time (admin command)
+            dispatcher.register(CommandManager.literal("undertaleprofile")
+                    .requires(source -> source.hasPermissionLevel(2))
+                    .then(CommandManager.literal("reset")
+                            .executes(context -> {
+                                ModProfiler.reset();
+                                context.getSource().sendFeedback(() -> Text.literal("§6Profiler timings cleared."), false);
+                                return 1;
+                            }))
+                    .then(CommandManager.argument("seconds", IntegerArgumentType.integer(1, ModProfiler.WINDOW_SECONDS))
+                            .executes(context -> sendProfile(context.getSource(), IntegerArgumentType.getInteger(context, "seconds"))))
+                    .executes(context -> sendProfile(context.getSource(), 10)));
+
             dispatcher.register(CommandManager.literal("undertaleconfig")
                     .requires(source -> source.hasPermissionLevel(2))
                     .then(CommandManager.argument("threshold", IntegerArgumentType.integer(1, 10000))
                             .executes(context -> {
                                 int newThreshold = IntegerArgumentType.getInteger(context, "threshold");
                                 EXTINCTION_THRESHOLD = newThreshold;
+                                ExtinctionJournal.logThreshold(EXTINCTION_THRESHOLD);
+                                markDataDirty();
                                 context.getSource().sendFeedback(() ->
                                         Text.literal("§6Extinction threshold set to " + newThreshold + " kills. The genocide route requires more determination."), false);
                                 return 1;
@@ -344,14 +435,140 @@ public class UndertaleExtinct implements ModInitializer {
                                         Text.literal("§7Current attack bar speed: §f" + String.format("%.3f", config.getAttackBarSpeed()) + " §7(default: 0.030)"), false);
                                 return 1;
                             }))
+                    .then(CommandManager.literal("maintenancebudget")
+                            .then(CommandManager.argument("micros", IntegerArgumentType.integer(100, 50000))
+                                    .executes(context -> {
+                                        int micros = IntegerArgumentType.getInteger(context, "micros");
+                                        config.setMaintenanceTickBudgetNanos(micros * 1000L);
+                                        context.getSource().sendFeedback(() ->
+                                                Text.literal("§6Mob maintenance budget set to " + micros + "µs per world tick."), false);
+                                        return 1;
+                                    }))
+                            .executes(context -> {
+                                context.getSource().sendFeedback(() ->
+                                        Text.literal("§7Current mob maintenance budget: §f" + (config.getMaintenanceTickBudgetNanos() / 1000) + "µs §7(default: 2000µs)"), false);
+                                return 1;
+                            }))
+                    .then(CommandManager.literal("sweeprate")
+                            .then(CommandManager.argument("mobs", IntegerArgumentType.integer(1, 4096))
+                                    .executes(context -> {
+                                        int mobs = IntegerArgumentType.getInteger(context, "mobs");
+                                        config.setSweepEntitiesPerTick(mobs);
+                                        context.getSource().sendFeedback(() ->
+                                                Text.literal("§6Extinction sweeps will kill up to " + mobs + " mobs per tick."), false);
+                                        return 1;
+                                    }))
+                            .executes(context -> {
+                                context.getSource().sendFeedback(() ->
+                                        Text.literal("§7Current extinction sweep rate: §f" + config.getSweepEntitiesPerTick() + " mobs/tick §7(default: 64)"), false);
+                                return 1;
+                            }))
+                    .then(CommandManager.literal("animationfps")
+                            .then(CommandManager.argument("fps", IntegerArgumentType.integer(1, 60))
+                                    .executes(context -> {
+                                        int fps = IntegerArgumentType.getInteger(context, "fps");
+                                        config.setAnimationFps(fps);
+                                        context.getSource().sendFeedback(() ->
+                                                Text.literal("§6Animation playback set to " + fps + " FPS."), false);
+                                        return 1;
+                                    }))
+                            .executes(context -> {
+                                context.getSource().sendFeedback(() ->
+                                        Text.literal("§7Current animation playback: §f" + config.getAnimationFps() + " FPS §7(default: 10)"), false);
+                                return 1;
+                            }))
+                    .then(CommandManager.literal("texturebudget")
+                            .then(CommandManager.argument("megabytes", IntegerArgumentType.integer(0, 1024))
+                                    .executes(context -> {
+                                        int megabytes = IntegerArgumentType.getInteger(context, "megabytes");
+                                        config.setTextureCacheBudgetMb(megabytes);
+                                        context.getSource().sendFeedback(() ->
+                                                Text.literal("§6Texture cache budget set to " + megabytes + " MB."), false);
+                                        return 1;
+                                    }))
+                            .executes(context -> {
+                                context.getSource().sendFeedback(() ->
+                                        Text.literal("§7Current texture cache budget: §f" + config.getTextureCacheBudgetMb() + " MB §7(default: 64 MB)"), false);
+                                return 1;
+                            }))
+                    .then(CommandManager.literal("profiler")
+                            .then(CommandManager.literal("on")
+                                    .executes(context -> {
+                                        config.setProfilerEnabled(true);
+                                        ModProfiler.setEnabled(true);
+                                        context.getSource().sendFeedback(() ->
+                                                Text.literal("§aProfiler enabled! Use /undertaleprofile to see the timings."), false);
+                                        return 1;
+                                    }))
+                            .then(CommandManager.literal("off")
+                                    .executes(context -> {
+                                        config.setProfilerEnabled(false);
+                                        ModProfiler.setEnabled(false);
+                                        context.getSource().sendFeedback(() ->
+                                                Text.literal("§cProfiler disabled! Callbacks are no longer timed."), false);
+                                        return 1;
+                                    }))
+                            .executes(context -> {
+                                context.getSource().sendFeedback(() ->
+                                        Text.literal("§7Profiler is currently: " + (ModProfiler.isEnabled() ? "§aENABLED" : "§cDISABLED")), false);
+                                return 1;
+                            }))
+                    .then(CommandManager.literal("sparedteam")
+                            .then(CommandManager.literal("on")
+                                    .executes(context -> {
+                                        SparedTeam.setEnabled(true);
+                                        context.getSource().sendFeedback(() ->
+                                                Text.literal("§aSpared mobs are kept on the 'spared' scoreboard team again."), false);
+                                        return 1;
+                                    }))
+                            .then(CommandManager.literal("off")
+                                    .executes(context -> {
+                                        SparedTeam.setEnabled(false);
+                                        context.getSource().sendFeedback(() ->
+                                                Text.literal("§cThe 'spared' team was removed! Spared mobs still can't hurt each other."), false);
+                                        return 1;
+                                    }))
+                            .executes(context -> {
+                                context.getSource().sendFeedback(() ->
+                                        Text.literal("§7Spared team is currently: " + (config.isSparedTeamEnabled() ? "§aENABLED §7(" + SparedTeam.getMemberCount() + " members)" : "§cDISABLED")), false);
+                                return 1;
+                            }))
+                    .then(CommandManager.literal("logsummary")
+                            .then(CommandManager.argument("seconds", IntegerArgumentType.integer(5, 3600))
+                                    .executes(context -> {
+                                        int seconds = IntegerArgumentType.getInteger(context, "seconds");
+                                        config.setLogSummaryIntervalSeconds(seconds);
+                                        context.getSource().sendFeedback(() ->
+                                                Text.literal("§6Mob removals will be summarized in the log every " + seconds + " seconds."), false);
+                                        return 1;
+                                    }))
+                            .executes(context -> {
+                                context.getSource().sendFeedback(() ->
+                                        Text.literal("§7Current log summary interval: §f" + config.getLogSummaryIntervalSeconds() + "s §7(default: 60s)"), false);
+                                return 1;
+                            }))
                     .executes(context -> {
                         ServerCommandSource source = context.getSource();
                         source.sendFeedback(() -> Text.literal("§6=== UNDERTALE MOD CONFIG ==="), false);
                         source.sendFeedback(() -> Text.literal("§7Chat Messages: " + (config.isChatMessagesEnabled() ? "§aENABLED" : "§cDISABLED")), false);
                         source.sendFeedback(() -> Text.literal("§7Attack Bar Speed: §f" + String.format("%.3f", config.getAttackBarSpeed()) + " §7(default: 0.030)"), false);
                         source.sendFeedback(() -> Text.literal("§7Extinction Threshold: §f" + EXTINCTION_THRESHOLD + " kills"), false);
+                        source.sendFeedback(() -> Text.literal("§7Mob Maintenance Budget: §f" + (config.getMaintenanceTickBudgetNanos() / 1000) + "µs §7per world tick"), false);
+                        source.sendFeedback(() -> Text.literal("§7Extinction Sweep Rate: §f" + config.getSweepEntitiesPerTick() + " mobs/tick"), false);
+                        source.sendFeedback(() -> Text.literal("§7Animation Playback: §f" + config.getAnimationFps() + " FPS"), false);
+                        source.sendFeedback(() -> Text.literal("§7Texture Cache Budget: §f" + config.getTextureCacheBudgetMb() + " MB"), false);
+                        source.sendFeedback(() -> Text.literal("§7Profiler: " + (ModProfiler.isEnabled() ? "§aENABLED" : "§cDISABLED")), false);
+                        source.sendFeedback(() -> Text.literal("§7Log Summary Interval: §f" + config.getLogSummaryIntervalSeconds() + "s"), false);
+                        source.sendFeedback(() -> Text.literal("§7Spared Team: " + (config.isSparedTeamEnabled() ? "§aENABLED" : "§cDISABLED")), false);
                         source.sendFeedback(() -> Text.literal("§e/undertaleconfig chatmessages [on|off] §7- Toggle chat notifications"), false);
                         source.sendFeedback(() -> Text.literal("§e/undertaleconfig attackspeed <0.01-0.1> §7- Set attack bar speed"), false);
+                        source.sendFeedback(() -> Text.literal("§e/undertaleconfig maintenancebudget <100-50000> §7- Set mob maintenance budget (µs)"), false);
+                        source.sendFeedback(() -> Text.literal("§e/undertaleconfig sweeprate <1-4096> §7- Set mobs killed per tick by extinction sweeps"), false);
+                        source.sendFeedback(() -> Text.literal("§e/undertaleconfig animationfps <1-60> §7- Set animation playback speed"), false);
+                        source.sendFeedback(() -> Text.literal("§e/undertaleconfig texturebudget <0-1024> §7- Set texture cache budget (MB)"), false);
+                        source.sendFeedback(() -> Text.literal("§e/undertaleconfig profiler [on|off] §7- Toggle callback timing for /undertaleprofile"), false);
+                        source.sendFeedback(() -> Text.literal("§e/undertaleconfig logsummary <5-3600> §7- Set how often mob removals are logged (s)"), false);
+                        source.sendFeedback(() -> Text.literal("§e/undertaleconfig sparedteam [on|off] §7- Use a scoreboard team for spared mobs"), false);
                         return 1;
                     }));
 
@@ -468,6 +685,8 @@ public class UndertaleExtinct implements ModInitializer {
 
                                     // Activate nether saved mode
                                     isNetherSaved = true;
+                                    journalFlags();
+                                    markDataDirty();
 
                                     // Grant advancement
                                     grantNetherSavedAdvancement(player);
@@ -493,6 +712,8 @@ public class UndertaleExtinct implements ModInitializer {
 
                                     // Activate overworld saved mode
                                     isOverworldSaved = true;
+                                    journalFlags();
+                                    markDataDirty();
 
                                     // Grant advancement
                                     grantOverworldSavedAdvancement(player);
@@ -518,6 +739,8 @@ public class UndertaleExtinct implements ModInitializer {
 
                                     // Activate end saved mode
                                     isEndSaved = true;
+                                    journalFlags();
+                                    markDataDirty();
 
                                     // Grant advancement
                                     grantEndSavedAdvancement(player);
@@ -536,6 +759,9 @@ public class UndertaleExtinct implements ModInitializer {
                             .executes(context -> {
                                 ServerCommandSource source = context.getSource();
                                 isOverworldSaved = false;
+                                SavedEffectState.clear(); // Mobs get the full treatment again on the next save
+                                journalFlags();
+                                markDataDirty();
 
                                 // Kill all sniffers in the overworld
                                 if (source.getEntity() instanceof ServerPlayerEntity player) {
@@ -569,6 +795,8 @@ public class UndertaleExtinct implements ModInitializer {
                             .executes(context -> {
                                 ServerCommandSource source = context.getSource();
                                 isNetherSaved = false;
+                                journalFlags();
+                                markDataDirty();
 
                                 // Kill all nether mobs in the overworld
                                 if (source.getEntity() instanceof ServerPlayerEntity player) {
@@ -602,6 +830,8 @@ public class UndertaleExtinct implements ModInitializer {
                             .executes(context -> {
                                 ServerCommandSource source = context.getSource();
                                 isEndSaved = false;
+                                journalFlags();
+                                markDataDirty();
 
                                 // Kill all enderdragons in the end
                                 if (source.getEntity() instanceof ServerPlayerEntity player) {
@@ -933,239 +1163,326 @@ public class UndertaleExtinct implements ModInitializer {
     }
 
     private void registerEvents() {
+        // Live per-type mob index - registered first so it sees loads before anything discards
+        MobTypeIndex.register();
+        MobMaintenanceScheduler.register();
+        ExtinctionSweep.register();
+        RegionEntitySweeper.register();
+        ModProfiler.register();
+        MobEventLog.register();
+        SavedEffectState.register();
+        SparedTeam.register();
+        SpawnPositionFinder.register();
+
         // Handle entity death events
         ServerLivingEntityEvents.AFTER_DEATH.register((entity, damageSource) -> {
-            if (!(entity instanceof MobEntity)) return;
-
-            // Check if killed by player
-            if (damageSource.getAttacker() instanceof ServerPlayerEntity player) {
-                EntityType<?> entityType = entity.getType();
-                if (entityType == null) return;
-
-                Identifier mobId = Registries.ENTITY_TYPE.getId(entityType);
-                if (mobId == null) return;
-
-                // Handle "disable next" functionality
-                if (nextKillTargets.containsKey(player.getUuid())) {
-                    purgedMobs.add(mobId);
-                    nextKillTargets.remove(player.getUuid());
+            long profilerStart = ModProfiler.begin();
+            try {
+                if (!(entity instanceof MobEntity)) return;
 
-                    if (config.isChatMessagesEnabled()) {
-                        player.sendMessage(Text.literal("§4" + entityType.getName().getString() +
-                                " have been purged from existence forever!"), false);
-                    }
-                    LOGGER.info("Player {} purged mob type: {}", player.getName().getString(), mobId);
-                    return;
-                }
+                // Check if killed by player
+                if (damageSource.getAttacker() instanceof ServerPlayerEntity player) {
+                    EntityType<?> entityType = entity.getType();
+                    if (entityType == null) return;
 
-                // Handle purge counting system
-                if (isPurgeActive) {
-                    int currentCount = killCounts.getOrDefault(mobId, 0) + 1;
-                    killCounts.put(mobId, currentCount);
+                    Identifier mobId = Registries.ENTITY_TYPE.getId(entityType);
+                    if (mobId == null) return;
 
-                    // Check for extinction threshold
-                    if (currentCount >= EXTINCTION_THRESHOLD && !extinctMobs.contains(mobId)) {
-                        extinctMobs.add(mobId);
-                        purgedMobs.add(mobId); // Also add to purged set
+                    // Handle "disable next" functionality
+                    if (nextKillTargets.containsKey(player.getUuid())) {
+                        purgedMobs.add(mobId);
+                        publishCursedTypes();
+                        ExtinctionJournal.logCurseAdded(mobId, false);
+                        markDataDirty();
+                        nextKillTargets.remove(player.getUuid());
 
-                        // Send extinction notification
                         if (config.isChatMessagesEnabled()) {
                             player.sendMessage(Text.literal("§4" + entityType.getName().getString() +
-                                    " are now extinct! Their kind has been erased from existence! (Killed " + currentCount + " times)"), false);
+                                    " have been purged from existence forever!"), false);
                         }
+                        LOGGER.info("Player {} purged mob type: {}", player.getName().getString(), mobId);
+                        return;
+                    }
 
-                        // INSTANT EXTINCTION: Kill all remaining mobs of this type in all loaded worlds
-                        MinecraftServer server = player.getServer();
-                        if (server != null) {
-                            int killedCount = 0;
-                            for (ServerWorld serverWorld : server.getWorlds()) {
-                                // Find all entities of this type and kill them instantly
-                                for (Object entityObj : serverWorld.getEntitiesByType(entityType, livingEntity -> livingEntity.isAlive())) {
-                                    if (entityObj instanceof MobEntity mobEntity) {
-                                        // Create dramatic death effect
-                                        mobEntity.damage(serverWorld.getDamageSources().genericKill(), Float.MAX_VALUE);
-                                        killedCount++;
-                                    }
-                                }
+                    // Handle purge counting system
+                    if (isPurgeActive) {
+                        int currentCount = KillCounter.increment(entityType);
+                        ExtinctionJournal.logKill(mobId);
+                        markDataDirty();
+
+                        // Check for extinction threshold - only the kill that claims it triggers the extinction
+                        if (currentCount >= EXTINCTION_THRESHOLD && !cursedTypes.isExtinct(entityType)
+                                && KillCounter.tryClaimExtinction(entityType)) {
+                            extinctMobs.add(mobId);
+                            purgedMobs.add(mobId); // Also add to purged set
+                            publishCursedTypes();
+                            ExtinctionJournal.logCurseAdded(mobId, true);
+                            markDataDirty();
+
+                            // Send extinction notification
+                            if (config.isChatMessagesEnabled()) {
+                                player.sendMessage(Text.literal("§4" + entityType.getName().getString() +
+                                        " are now extinct! Their kind has been erased from existence! (Killed " + currentCount + " times)"), false);
                             }
 
-                            // Notify about the mass extinction
-                            if (killedCount > 0 && config.isChatMessagesEnabled()) {
-                                final int finalKilledCount = killedCount;
+                            // EXTINCTION SWEEP: Kill all remaining mobs of this type in all loaded worlds over the next ticks
+                            MinecraftServer server = player.getServer();
+                            if (server != null) {
                                 final String mobName = entityType.getName().getString();
-                                player.sendMessage(Text.literal("§c💀 GENOCIDE EVENT: " + finalKilledCount +
-                                        " remaining " + mobName + " have been eliminated from all worlds!"), false);
-                                LOGGER.info("Extinction event eliminated {} remaining {} mobs", finalKilledCount, mobId);
+                                ExtinctionSweep.start(server, "extinction " + mobId, List.of(entityType), false, (killedCount, cancelled) -> {
+                                    // Notify about the mass extinction
+                                    if (killedCount > 0 && config.isChatMessagesEnabled()) {
+                                        player.sendMessage(Text.literal("§c💀 GENOCIDE EVENT: " + killedCount +
+                                                " remaining " + mobName + " have been eliminated from all worlds!"), false);
+                                    }
+                                    LOGGER.info("Extinction event eliminated {} remaining {} mobs", killedCount, mobId);
+                                });
                             }
-                        }
 
-                        LOGGER.info("Mob type {} went extinct after {} kills by {}",
-                                mobId, currentCount, player.getName().getString());
+                            LOGGER.info("Mob type {} went extinct after {} kills by {}",
+                                    mobId, currentCount, player.getName().getString());
 
-                        // Check if all vanilla mobs are now extinct
-                        checkAllVanillaMobsExtinct(player);
-                    } else if (currentCount % 50 == 0 && config.isChatMessagesEnabled()) {
-                        // Progress notification every 50 kills
-                        player.sendMessage(Text.literal("§7" + entityType.getName().getString() +
-                                " kill count: " + currentCount + "/" + EXTINCTION_THRESHOLD), true);
+                            // Check if all vanilla mobs are now extinct
+                            checkAllVanillaMobsExtinct(player);
+                        } else if (currentCount % 50 == 0 && config.isChatMessagesEnabled()) {
+                            // Progress notification every 50 kills
+                            player.sendMessage(Text.literal("§7" + entityType.getName().getString() +
+                                    " kill count: " + currentCount + "/" + EXTINCTION_THRESHOLD), true);
+                        }
                     }
                 }
+            } finally {
+                ModProfiler.end(ModProfiler.Section.AFTER_DEATH, profilerStart);
             }
         });
 
-        // ULTRA-FAST no-mixin spawn prevention system
+        // Fallback spawn prevention - natural, spawner and structure spawns of cursed
+        // types are already rejected before creation by the spawn-gate mixins
         ServerEntityEvents.ENTITY_LOAD.register((entity, world) -> {
-            if (entity instanceof MobEntity mobEntity && entity.getType() != null) {
-                Identifier mobId = Registries.ENTITY_TYPE.getId(entity.getType());
+            long profilerStart = ModProfiler.begin();
+            try {
+                if (entity instanceof MobEntity mobEntity && entity.getType() != null) {
+                    ModProfiler.count(ModProfiler.Counter.VISITED);
 
-                // If all mob spawning is disabled (after vanillaextinctionfull), remove ALL mobs
-                if (allMobSpawningDisabled) {
-                    mobEntity.discard();
-                    return;
-                }
+                    // If all mob spawning is disabled (after vanillaextinctionfull), remove ALL mobs
+                    if (allMobSpawningDisabled) {
+                        mobEntity.discard();
+                        ModProfiler.count(ModProfiler.Counter.DISCARDED);
+                        return;
+                    }
 
 
-                // Handle nether saved mode spawning rules
-                if (isNetherSaved) {
-                    handleNetherSavedSpawning(mobEntity, world);
+                    // Handle nether saved mode spawning rules
+                    if (isNetherSaved) {
+                        handleNetherSavedSpawning(mobEntity, world);
+                        if (mobEntity.isRemoved()) return; // Discarded by the saved-mode rules
 
-                    // Percentage-based nether mob spawning in overworld
-                    if (world.getRegistryKey() == World.OVERWORLD && !isNetherMob(mobEntity.getType()) && !isAquaticMob(mobEntity.getType())) {
-                        // 25% chance to spawn a nether mob when any NON-AQUATIC overworld mob spawns
-                        if (world instanceof ServerWorld) {
-                        ServerWorld serverWorld = (ServerWorld) world;
-                            if (serverWorld.getRandom().nextFloat() < 0.25f) {
-                                spawnNetherMobNearLocation(serverWorld, mobEntity.getBlockPos());
+                        // Percentage-based nether mob spawning in overworld
+                        if (world.getRegistryKey() == World.OVERWORLD && !isNetherMob(mobEntity.getType()) && !isAquaticMob(mobEntity.getType())) {
+                            // 25% chance to spawn a nether mob when any NON-AQUATIC overworld mob spawns
+                            if (world instanceof ServerWorld) {
+                            ServerWorld serverWorld = (ServerWorld) world;
+                                if (serverWorld.getRandom().nextFloat() < 0.25f) {
+                                    spawnNetherMobNearLocation(serverWorld, mobEntity.getBlockPos());
+                                }
                             }
                         }
                     }
-                }
 
-                // Handle overworld saved mode spawning rules
-                if (isOverworldSaved) {
-                    handleOverworldSavedSpawning(mobEntity, world);
-
-                    // Percentage-based pillager spawning when villagers spawn
-                    if (world.getRegistryKey() == World.OVERWORLD && mobEntity.getType() == EntityType.VILLAGER) {
-                        // 60% chance to spawn a peaceful pillager when a villager spawns
-                        if (world instanceof ServerWorld) {
-                        ServerWorld serverWorld = (ServerWorld) world;
-                            if (serverWorld.getRandom().nextFloat() < 0.60f) {
-                                spawnPeacefulPillagerNearLocation(serverWorld, mobEntity.getBlockPos());
+                    // Handle overworld saved mode spawning rules
+                    if (isOverworldSaved) {
+                        handleOverworldSavedSpawning(mobEntity, world);
+                        if (mobEntity.isRemoved()) return; // Discarded by the saved-mode rules
+
+                        // Percentage-based pillager spawning when villagers spawn
+                        if (world.getRegistryKey() == World.OVERWORLD && mobEntity.getType() == EntityType.VILLAGER) {
+                            // 60% chance to spawn a peaceful pillager when a villager spawns
+                            if (world instanceof ServerWorld) {
+                            ServerWorld serverWorld = (ServerWorld) world;
+                                if (serverWorld.getRandom().nextFloat() < 0.60f) {
+                                    spawnPeacefulPillagerNearLocation(serverWorld, mobEntity.getBlockPos());
+                                }
                             }
                         }
                     }
-                }
 
-                if (mobId != null && (purgedMobs.contains(mobId) || extinctMobs.contains(mobId))) {
-                    // Don't remove mobs that were spawned as part of nether saved system
-                    if (!mobEntity.getCommandTags().contains("nether_saved_spawn")) {
-                        // Immediate removal - no delay whatsoever
-                        mobEntity.discard();
-                        LOGGER.info("Instantly removed extinct mob: {} at {} in {}", mobId, mobEntity.getBlockPos(), world.getRegistryKey().getValue());
-                    } else {
-                        LOGGER.info("Protected nether saved mob from extinction: {} at {} in {}", mobId, mobEntity.getBlockPos(), world.getRegistryKey().getValue());
+                    if (cursedTypes.isCursed(mobEntity.getType())) {
+                        // Don't remove mobs that were spawned as part of nether saved system
+                        if (!MobMarker.has(mobEntity, MobMarker.NETHER_SAVED_SPAWN)) {
+                            // Immediate removal - no delay whatsoever
+                            mobEntity.discard();
+                            ModProfiler.count(ModProfiler.Counter.DISCARDED);
+                            MobEventLog.record(MobEventLog.Event.INSTANT_REMOVED, mobEntity);
+                        } else {
+                            MobEventLog.record(MobEventLog.Event.PROTECTED, mobEntity);
+                        }
                     }
                 }
+            } finally {
+                ModProfiler.end(ModProfiler.Section.ENTITY_LOAD, profilerStart);
             }
         });
 
         // Super aggressive tick-based cleanup - every single tick for maximum speed
+        // Only the mob types that are cursed or need saved-mode processing are visited
         ServerTickEvents.END_WORLD_TICK.register(world -> {
+            long profilerStart = ModProfiler.begin();
             try {
-                // Check EVERY tick for instant removal and nether saved effects
-                world.iterateEntities().forEach(entity -> {
-                    if (entity instanceof MobEntity mobEntity && mobEntity.isAlive() && !mobEntity.isRemoved()) {
-                        EntityType<?> entityType = mobEntity.getType();
-                        if (entityType != null) {
-                            Identifier mobId = Registries.ENTITY_TYPE.getId(entityType);
-
-                            // If all mob spawning is disabled, remove ALL mobs immediately
-                            if (allMobSpawningDisabled) {
+                try {
+                    long passStart = ModProfiler.begin();
+
+                    // If all mob spawning is disabled, remove ALL mobs immediately
+                    if (allMobSpawningDisabled) {
+                        MobTypeIndex.forEachMob(world, mobEntity -> {
+                            ModProfiler.count(ModProfiler.Counter.VISITED);
+                            // Mobs still queued in an extinction sweep get their death instead
+                            if (!ExtinctionSweep.isSweeping(mobEntity.getType())) {
                                 mobEntity.discard();
-                                return;
+                                ModProfiler.count(ModProfiler.Counter.DISCARDED);
                             }
-
-                            // Handle extinct/purged mob removal
-                            if (mobId != null && (purgedMobs.contains(mobId) || extinctMobs.contains(mobId))) {
-                                // Don't remove mobs that were spawned as part of nether saved system
-                                if (!mobEntity.getCommandTags().contains("nether_saved_spawn")) {
-                                    mobEntity.discard();
-                                    LOGGER.info("Tick-removed extinct mob: {} at {} in {}", mobId, mobEntity.getBlockPos(), world.getRegistryKey().getValue());
-                                    return;
-                                } else {
-                                    LOGGER.debug("Protected nether saved mob from tick removal: {} at {}", mobId, mobEntity.getBlockPos());
+                        });
+                    } else {
+                        // Handle extinct/purged mob removal (read the snapshot once per tick)
+                        CursedTypeSnapshot cursed = cursedTypes;
+                        if (!cursed.isEmpty()) { // Only list the loaded types when something is cursed
+                            for (EntityType<?> entityType : MobTypeIndex.getTypes(world)) {
+                                // Types still queued in an extinction sweep are left to the sweep
+                                if (cursed.isCursed(entityType) && !ExtinctionSweep.isSweeping(entityType)) {
+                                    Identifier mobId = Registries.ENTITY_TYPE.getId(entityType);
+                                    MobTypeIndex.forEachOfType(world, entityType, mobEntity -> {
+                                        ModProfiler.count(ModProfiler.Counter.VISITED);
+                                        // Don't remove mobs that were spawned as part of nether saved system
+                                        if (!MobMarker.has(mobEntity, MobMarker.NETHER_SAVED_SPAWN)) {
+                                            mobEntity.discard();
+                                            ModProfiler.count(ModProfiler.Counter.DISCARDED);
+                                            MobEventLog.record(MobEventLog.Event.TICK_REMOVED, mobEntity);
+                                        } else {
+                                            LOGGER.trace("Protected nether saved mob from tick removal: {} at {}", mobId, mobEntity.getBlockPos());
+                                        }
+                                    });
                                 }
                             }
+                        }
 
-                            // Handle nether saved mode for existing mobs every 100 ticks (5 seconds)
-                            if (isNetherSaved && world.getTime() % 100 == 0) {
+                        // Saved-mode maintenance, time-sliced by UUID slot and capped by the tick budget:
+                        // nether/overworld passes every 100 ticks, overworld effects every 20 ticks per mob
+                        int longPasses = (isNetherSaved ? MobMaintenanceScheduler.NETHER_PASS : 0)
+                                | (isOverworldSaved ? MobMaintenanceScheduler.OVERWORLD_PASS : 0);
+                        int shortPasses = isOverworldSaved ? MobMaintenanceScheduler.OVERWORLD_EFFECTS : 0;
+                        MobMaintenanceScheduler.tick(world, longPasses, shortPasses, (mobEntity, passes) -> {
+                            ModProfiler.count(ModProfiler.Counter.VISITED);
+                            if ((passes & MobMaintenanceScheduler.NETHER_PASS) != 0 && isNetherSaved && isNetherMob(mobEntity.getType())) {
                                 handleExistingNetherMob(mobEntity, world);
                             }
+                            if (mobEntity.isRemoved() || !isOverworldSaved) return;
 
-
-                            // Handle overworld saved mode for existing mobs every 100 ticks (5 seconds)
-                            if (isOverworldSaved && world.getTime() % 100 == 0) {
+                            if ((passes & MobMaintenanceScheduler.OVERWORLD_PASS) != 0) {
                                 handleExistingOverworldMob(mobEntity, world);
+                            } else if ((passes & MobMaintenanceScheduler.OVERWORLD_EFFECTS) != 0
+                                    && !MobMarker.has(mobEntity, MobMarker.SPARED)) {
+                                // Re-apply peaceful effects if they aren't spared yet
+                                applyOverworldSavedEffects(mobEntity, world);
                             }
-                        }
+                        });
                     }
-                });
+                    ModProfiler.end(ModProfiler.Section.MAIN_PASS, passStart);
 
-                // Handle raid disabling every 200 ticks (10 seconds)
-                if (isOverworldSaved && world.getTime() % 200 == 0) {
-                    disableActiveRaids(world);
-                }
+                    // Handle raid disabling every 200 ticks (10 seconds)
+                    if (isOverworldSaved && world.getTime() % 200 == 0) {
+                        long spawnerStart = ModProfiler.begin();
+                        disableActiveRaids(world);
+                        ModProfiler.end(ModProfiler.Section.RAID_DISABLING, spawnerStart);
+                    }
 
-                // Timer-based nether mob spawning removed - now handled via percentage-based spawning on natural spawns
+                    // Timer-based nether mob spawning removed - now handled via percentage-based spawning on natural spawns
 
-                // Handle natural sniffer spawning every 600 ticks (30 seconds) - only when overworld is saved
-                if (isOverworldSaved && world.getRegistryKey() == World.OVERWORLD && world.getTime() % 600 == 0) {
-                    spawnSniffersNaturally(world);
-                }
+                    // Handle natural sniffer spawning every 600 ticks (30 seconds) - only when overworld is saved
+                    if (isOverworldSaved && world.getRegistryKey() == World.OVERWORLD && world.getTime() % 600 == 0) {
+                        long spawnerStart = ModProfiler.begin();
+                        spawnSniffersNaturally(world);
+                        ModProfiler.end(ModProfiler.Section.SNIFFER_SPAWNER, spawnerStart);
+                    }
 
-                // Handle natural pillager spawning every 400 ticks (20 seconds) when overworld is saved
-                if (isOverworldSaved && world.getRegistryKey() == World.OVERWORLD && world.getTime() % 400 == 0) {
-                    spawnPillagersNaturally(world);
-                }
+                    // Handle natural pillager spawning every 400 ticks (20 seconds) when overworld is saved
+                    if (isOverworldSaved && world.getRegistryKey() == World.OVERWORLD && world.getTime() % 400 == 0) {
+                        long spawnerStart = ModProfiler.begin();
+                        spawnPillagersNaturally(world);
+                        ModProfiler.end(ModProfiler.Section.PILLAGER_SPAWNER, spawnerStart);
+                    }
 
 
-                // Timer-based pillager spawning removed - now handled via percentage-based spawning when villagers spawn
+                    // Timer-based pillager spawning removed - now handled via percentage-based spawning when villagers spawn
 
-                // Handle peaceful enderdragon spawning in the end every 200 ticks (10 seconds)
-                if (isEndSaved && world.getRegistryKey() == World.END && world.getTime() % 200 == 0) {
-                    spawnPeacefulEnderdragons(world);
+                    // Handle peaceful enderdragon spawning in the end every 200 ticks (10 seconds)
+                    if (isEndSaved && world.getRegistryKey() == World.END && world.getTime() % 200 == 0) {
+                        long spawnerStart = ModProfiler.begin();
+                        spawnPeacefulEnderdragons(world);
+                        ModProfiler.end(ModProfiler.Section.ENDERDRAGON_SPAWNER, spawnerStart);
+                    }
+                } catch (Exception e) {
+                    // Ignore errors to prevent crash loops
                 }
-            } catch (Exception e) {
-                // Ignore errors to prevent crash loops
-            }
 
-            // Additional aggressive mob neutralization check
-            try {
-                if (isOverworldSaved) {
-                    world.iterateEntities().forEach(entity -> {
-                        if (entity instanceof MobEntity mobEntity && mobEntity.isAlive() && !mobEntity.isRemoved()) {
+                // Additional aggressive mob neutralization check
+                try {
+                    if (isOverworldSaved) {
+                        long passStart = ModProfiler.begin();
+                        MobTypeIndex.forEachMob(world, mobEntity -> {
+                            ModProfiler.count(ModProfiler.Counter.VISITED);
                             // Make all mobs neutral EVERY TICK - super aggressive
                             // Remove any targets immediately
                             if (mobEntity.getTarget() != null) {
                                 mobEntity.setTarget(null);
                                 mobEntity.setAttacker(null);
+                                ModProfiler.count(ModProfiler.Counter.MODIFIED);
                                 LOGGER.debug("Neutralized aggressive mob: {}", Registries.ENTITY_TYPE.getId(mobEntity.getType()));
                             }
-
-                            // Re-apply peaceful effects every 20 ticks if they don't have spared tag
-                            if (world.getTime() % 20 == 0 && !mobEntity.getCommandTags().contains("spared")) {
-                                applyOverworldSavedEffects(mobEntity, world);
-                            }
-                        }
-                    });
+                        });
+                        ModProfiler.end(ModProfiler.Section.NEUTRALIZATION_PASS, passStart);
+                    }
+                } catch (Exception e) {
+                    // Ignore errors to prevent crash loops
                 }
-            } catch (Exception e) {
-                // Ignore errors to prevent crash loops
+            } finally {
+                ModProfiler.end(ModProfiler.Section.WORLD_TICK, profilerStart);
             }
         });
     }
 
+    /**
+     * Print the profiler summary of the last given seconds
+     */
+    private static int sendProfile(ServerCommandSource source, int seconds) {
+        if (!ModProfiler.isEnabled()) {
+            source.sendFeedback(() -> Text.literal("§7The profiler is disabled. Turn it on with §e/undertaleconfig profiler on"), false);
+            return 0;
+        }
+
+        List<ModProfiler.Summary> summaries = ModProfiler.summarize(seconds);
+        source.sendFeedback(() -> Text.literal("§6=== UNDERTALE PROFILE (last " + seconds + "s) ==="), false);
+        if (summaries.isEmpty()) {
+            source.sendFeedback(() -> Text.literal("§7Nothing was timed yet."), false);
+        }
+        for (ModProfiler.Summary summary : summaries) {
+            // Share of server time: milliseconds spent per second of the window
+            String perSecond = String.format("%.2f", summary.totalNanos / 1_000_000.0 / seconds);
+            source.sendFeedback(() -> Text.literal("§e" + summary.section.getLabel() + " §7x" + summary.calls +
+                    " p50 §f" + formatNanos(summary.p50Nanos) + " §7p99 §f" + formatNanos(summary.p99Nanos) +
+                    " §7max §c" + formatNanos(summary.maxNanos) + " §7(" + perSecond + " ms/s)"), false);
+        }
+        source.sendFeedback(() -> Text.literal("§7Entities visited: §f" + ModProfiler.getCount(ModProfiler.Counter.VISITED, seconds) +
+                " §7discarded: §c" + ModProfiler.getCount(ModProfiler.Counter.DISCARDED, seconds) +
+                " §7modified: §a" + ModProfiler.getCount(ModProfiler.Counter.MODIFIED, seconds)), false);
+        return summaries.size();
+    }
+
+    private static String formatNanos(long nanos) {
+        if (nanos >= 1_000_000L) {
+            return String.format("%.2fms", nanos / 1_000_000.0);
+        }
+        return String.format("%.1fµs", nanos / 1_000.0);
+    }
+
     private void handleNetherSavedSpawning(MobEntity mobEntity, net.minecraft.world.World world) {
         EntityType<?> entityType = mobEntity.getType();
         Identifier mobId = Registries.ENTITY_TYPE.getId(entityType);
@@ -1188,11 +1505,12 @@ public class UndertaleExtinct implements ModInitializer {
                     entityType == EntityType.ZOMBIFIED_PIGLIN ||
                     entityType == EntityType.ZOGLIN) {
                     mobEntity.discard();
+                    ModProfiler.count(ModProfiler.Counter.DISCARDED);
                     LOGGER.debug("Removed dangerous nether creature from nether (nether saved mode): {}", mobId);
                     return;
                 } else {
                     // Apply nether saved effects to allowed creatures and protect them from extinction system
-                    mobEntity.addCommandTag("nether_saved_spawn"); // Protect from extinction system
+                    MobMarker.add(mobEntity, MobMarker.NETHER_SAVED_SPAWN); // Protect from extinction system
                     applyNetherSavedEffects(mobEntity);
                 }
             } else if (isInOverworld) {
@@ -1202,6 +1520,7 @@ public class UndertaleExtinct implements ModInitializer {
                     entityType == EntityType.ZOGLIN ||
                     entityType == EntityType.STRIDER) {
                     mobEntity.discard();
+                    ModProfiler.count(ModProfiler.Counter.DISCARDED);
                     LOGGER.debug("Removed restricted nether creature from overworld: {}", mobId);
                     return;
                 }
@@ -1212,7 +1531,7 @@ public class UndertaleExtinct implements ModInitializer {
         }
     }
 
-    private boolean isNetherMob(EntityType<?> entityType) {
+    static boolean isNetherMob(EntityType<?> entityType) {
         return entityType == EntityType.BLAZE ||
                entityType == EntityType.GHAST ||
                entityType == EntityType.MAGMA_CUBE ||
@@ -1225,7 +1544,7 @@ public class UndertaleExtinct implements ModInitializer {
                entityType == EntityType.ZOGLIN;
     }
 
-    private boolean isAquaticMob(EntityType<?> entityType) {
+    static boolean isAquaticMob(EntityType<?> entityType) {
         return entityType == EntityType.COD ||
                entityType == EntityType.SALMON ||
                entityType == EntityType.TROPICAL_FISH ||
@@ -1278,10 +1597,8 @@ public class UndertaleExtinct implements ModInitializer {
             mobEntity.setAiDisabled(false);
         }
 
-        LOGGER.info("Applied nether saved effects to: {} at {} in {}",
-            Registries.ENTITY_TYPE.getId(entityType),
-            mobEntity.getBlockPos(),
-            mobEntity.getWorld().getRegistryKey().getValue());
+        ModProfiler.count(ModProfiler.Counter.MODIFIED);
+        MobEventLog.record(MobEventLog.Event.NETHER_EFFECTS, mobEntity);
     }
 
     private void handleOverworldSavedSpawning(MobEntity mobEntity, net.minecraft.world.World world) {
@@ -1291,6 +1608,7 @@ public class UndertaleExtinct implements ModInitializer {
         // Check if this is an undead mob or iron golem
         if (isUndeadMob(entityType) || entityType == EntityType.IRON_GOLEM) {
             mobEntity.discard();
+            ModProfiler.count(ModProfiler.Counter.DISCARDED);
             LOGGER.debug("Removed undead/iron golem in overworld saved mode: {}", mobId);
             return;
         }
@@ -1302,7 +1620,7 @@ public class UndertaleExtinct implements ModInitializer {
         handleVillagerPillagerCoexistence(mobEntity, world);
     }
 
-    private boolean isUndeadMob(EntityType<?> entityType) {
+    static boolean isUndeadMob(EntityType<?> entityType) {
         // Only truly undead mobs that should be removed - exclude living creatures
         return entityType == EntityType.ZOMBIE ||
                entityType == EntityType.SKELETON ||
@@ -1322,29 +1640,46 @@ public class UndertaleExtinct implements ModInitializer {
         EntityType<?> entityType = mobEntity.getType();
 
         // Aggressively neutralize the mob
+        boolean modified = mobEntity.getTarget() != null || mobEntity.getAttacker() != null;
         mobEntity.setTarget(null);  // Remove current target immediately
         mobEntity.setAttacker(null); // Remove attacker memory
 
-        // Make all mobs neutral by resetting AI
-        boolean wasAiDisabled = mobEntity.isAiDisabled();
-        if (!wasAiDisabled) {
-            mobEntity.setAiDisabled(true);
-            mobEntity.setAiDisabled(false);
+        // Make all mobs neutral by resetting AI - once, every toggle is synced to the clients
+        if (!SavedEffectState.hasFlag(mobEntity, SavedEffectState.AI_RESET)) {
+            modified = true;
+            boolean wasAiDisabled = mobEntity.isAiDisabled();
+            if (!wasAiDisabled) {
+                mobEntity.setAiDisabled(true);
+                mobEntity.setAiDisabled(false);
+            }
+            SavedEffectState.setFlag(mobEntity, SavedEffectState.AI_RESET);
         }
 
         // Add peaceful status effects - make them completely non-threatening
-        mobEntity.addStatusEffect(new StatusEffectInstance(StatusEffects.RESISTANCE, 1200, 2, true, false)); // Take less damage to encourage peaceful behavior
+        // Only renewed when about to run out, not on every pass
+        long now = world.getTime();
+        if (SavedEffectState.isRefreshDue(mobEntity, now)) {
+            modified |= SavedEffectState.needsEffect(mobEntity, StatusEffects.RESISTANCE, 2)
+                    || (isIllagerMob(entityType) && SavedEffectState.needsEffect(mobEntity, StatusEffects.REGENERATION, 0));
+            int remaining = SavedEffectState.ensureEffect(mobEntity, StatusEffects.RESISTANCE, 1200, 2); // Take less damage to encourage peaceful behavior
+
+            // Special handling for specific mob types - keep AI and make them peaceful
+            if (isIllagerMob(entityType)) {
+                // Apply regeneration to illagers to represent their "redemption" but keep AI
+                remaining = Math.min(remaining, SavedEffectState.ensureEffect(mobEntity, StatusEffects.REGENERATION, 1200, 0));
+            }
+            SavedEffectState.scheduleRefresh(mobEntity, now + remaining - SavedEffectState.REFRESH_MARGIN);
+        }
 
-        // Add "spared" tag and add to peaceful team if AI changes aren't sufficient
-        if (!mobEntity.getCommandTags().contains("spared")) {
-            mobEntity.addCommandTag("spared");
-            addMobToTeam(mobEntity, world);
+        // Mark as spared and add to peaceful team if AI changes aren't sufficient
+        if (!MobMarker.has(mobEntity, MobMarker.SPARED)) {
+            MobMarker.add(mobEntity, MobMarker.SPARED);
+            SparedTeam.add(mobEntity);
+            modified = true;
         }
 
-        // Special handling for specific mob types - keep AI and make them peaceful
-        if (isIllagerMob(entityType)) {
-            // Apply regeneration to illagers to represent their "redemption" but keep AI
-            mobEntity.addStatusEffect(new StatusEffectInstance(StatusEffects.REGENERATION, 100, 0, true, false));
+        if (modified) {
+            ModProfiler.count(ModProfiler.Counter.MODIFIED);
         }
 
         LOGGER.debug("Applied overworld saved effects to: {}", Registries.ENTITY_TYPE.getId(entityType));
@@ -1389,19 +1724,19 @@ public class UndertaleExtinct implements ModInitializer {
                     entityType == EntityType.ZOMBIFIED_PIGLIN ||
                     entityType == EntityType.ZOGLIN) {
                     mobEntity.discard();
-                    LOGGER.info("Removed existing dangerous nether creature from nether: {}", Registries.ENTITY_TYPE.getId(entityType));
+                    ModProfiler.count(ModProfiler.Counter.DISCARDED);
+                    MobEventLog.record(MobEventLog.Event.NETHER_REMOVED, mobEntity);
                 } else {
                     // Apply nether saved effects to allowed creatures and protect them
-                    if (!mobEntity.getCommandTags().contains("nether_saved_spawn")) {
-                        mobEntity.addCommandTag("nether_saved_spawn"); // Protect from extinction system
-                    }
+                    MobMarker.add(mobEntity, MobMarker.NETHER_SAVED_SPAWN); // Protect from extinction system
                     applyNetherSavedEffects(mobEntity);
                 }
             } else {
                 // In overworld: Remove restricted nether creatures (zoglins, striders)
                 if (entityType == EntityType.ZOGLIN || entityType == EntityType.STRIDER) {
                     mobEntity.discard();
-                    LOGGER.info("Removed existing restricted nether creature from overworld: {}", Registries.ENTITY_TYPE.getId(entityType));
+                    ModProfiler.count(ModProfiler.Counter.DISCARDED);
+                    MobEventLog.record(MobEventLog.Event.NETHER_REMOVED, mobEntity);
                 } else {
                     // Apply effects to allowed nether creatures in overworld
                     applyNetherSavedEffects(mobEntity);
@@ -1416,6 +1751,7 @@ public class UndertaleExtinct implements ModInitializer {
         // Remove undead mobs and iron golems
         if (isUndeadMob(entityType) || entityType == EntityType.IRON_GOLEM) {
             mobEntity.discard();
+            ModProfiler.count(ModProfiler.Counter.DISCARDED);
             LOGGER.debug("Removed existing undead/iron golem: {}", Registries.ENTITY_TYPE.getId(entityType));
         } else {
             // Apply peaceful effects to all other mobs
@@ -1429,30 +1765,6 @@ public class UndertaleExtinct implements ModInitializer {
         LOGGER.debug("Raids prevented through peaceful illager behavior");
     }
 
-    private void addMobToTeam(MobEntity mobEntity, net.minecraft.world.World world) {
-        if (world instanceof ServerWorld serverWorld) {
-            try {
-                // Get or create the "spared" team
-                var scoreboardManager = serverWorld.getServer().getScoreboard();
-                var sparedTeam = scoreboardManager.getTeam("spared");
-
-                if (sparedTeam == null) {
-                    sparedTeam = scoreboardManager.addTeam("spared");
-                    sparedTeam.setFriendlyFireAllowed(false); // Prevent team members from attacking each other
-                    LOGGER.info("Created 'spared' team for peaceful mobs");
-                }
-
-                // Add mob to the team
-                String mobName = mobEntity.getUuid().toString();
-                scoreboardManager.addPlayerToTeam(mobName, sparedTeam);
-
-                LOGGER.debug("Added mob to spared team: {}", Registries.ENTITY_TYPE.getId(mobEntity.getType()));
-            } catch (Exception e) {
-                LOGGER.debug("Failed to add mob to team: {}", e.getMessage());
-            }
-        }
-    }
-
     private void spawnNetherMobsInOverworld(net.minecraft.world.World world) {
         if (world instanceof ServerWorld serverWorld) {
             try {
@@ -1489,7 +1801,7 @@ public class UndertaleExtinct implements ModInitializer {
         int spawnZ = (int) (player.getZ() + Math.sin(angle) * distance);
 
         // Find a suitable Y coordinate
-        BlockPos spawnPos = findSuitableSpawnPos(world, new BlockPos(spawnX, player.getBlockY(), spawnZ));
+        BlockPos spawnPos = SpawnPositionFinder.find(world, new BlockPos(spawnX, player.getBlockY(), spawnZ));
         if (spawnPos == null) return;
 
         // Select a random nether mob type for overworld spawning (no striders - they need lava)
@@ -1511,7 +1823,7 @@ public class UndertaleExtinct implements ModInitializer {
 
                     // Check if ghast spawn location is safe
                     BlockPos ghastSpawnPos = new BlockPos((int)(spawnPos.getX() + 0.5), (int)spawnY, (int)(spawnPos.getZ() + 0.5));
-                    if (!isSafeGhastSpawnLocation(world, ghastSpawnPos)) {
+                    if (!SpawnPositionFinder.isSafeGhastSpawn(world, ghastSpawnPos)) {
                         LOGGER.debug("Unsafe ghast spawn location at {}, cancelling spawn", ghastSpawnPos);
                         return; // Don't spawn ghast in unsafe location
                     }
@@ -1520,8 +1832,8 @@ public class UndertaleExtinct implements ModInitializer {
                 mob.refreshPositionAndAngles(spawnPos.getX() + 0.5, spawnY, spawnPos.getZ() + 0.5,
                     random.nextFloat() * 360.0F, 0.0F);
 
-                // Add special tag to protect from extinction system
-                mob.addCommandTag("nether_saved_spawn");
+                // Mark it to protect from extinction system
+                MobMarker.add(mob, MobMarker.NETHER_SAVED_SPAWN);
 
                 // Apply nether saved effects immediately
                 applyNetherSavedEffects(mob);
@@ -1536,71 +1848,6 @@ public class UndertaleExtinct implements ModInitializer {
         }
     }
 
-    private BlockPos findSuitableSpawnPos(ServerWorld world, BlockPos centerPos) {
-        // Try to find a suitable spawn location within a small range
-        for (int attempts = 0; attempts < 10; attempts++) {
-            int x = centerPos.getX() + world.getRandom().nextInt(10) - 5;
-            int z = centerPos.getZ() + world.getRandom().nextInt(10) - 5;
-
-            // Find the top solid block
-            for (int y = world.getTopY(); y > world.getBottomY(); y--) {
-                BlockPos pos = new BlockPos(x, y, z);
-                if (world.getBlockState(pos).isOpaque() &&
-                    world.getBlockState(pos.up()).isAir() &&
-                    world.getBlockState(pos.up(2)).isAir()) {
-                    return pos.up();
-                }
-            }
-        }
-        return null;
-    }
-
-    private boolean isSafeGhastSpawnLocation(ServerWorld world, BlockPos pos) {
-        // Check if position is below Y=63
-        if (pos.getY() < 63) {
-            return false;
-        }
-
-        // Check for sufficient air space (ghasts are 4x4x4)
-        for (int x = -2; x <= 2; x++) {
-            for (int y = -2; y <= 2; y++) {
-                for (int z = -2; z <= 2; z++) {
-                    BlockPos checkPos = pos.add(x, y, z);
-                    if (!world.getBlockState(checkPos).isAir()) {
-                        return false; // Not enough air space
-                    }
-                }
-            }
-        }
-
-        // Check for water or lava that could damage the ghast
-        for (int x = -3; x <= 3; x++) {
-            for (int y = -3; y <= 3; y++) {
-                for (int z = -3; z <= 3; z++) {
-                    BlockPos checkPos = pos.add(x, y, z);
-                    var blockState = world.getBlockState(checkPos);
-
-                    // Avoid spawning near water (damages ghasts) or lava
-                    if (blockState.isOf(net.minecraft.block.Blocks.WATER) ||
-                        blockState.isOf(net.minecraft.block.Blocks.LAVA)) {
-                        return false;
-                    }
-                }
-            }
-        }
-
-        // Check if there's solid ground below (within reasonable distance) to avoid spawning in void
-        boolean foundGround = false;
-        for (int checkY = pos.getY() - 1; checkY >= Math.max(pos.getY() - 20, world.getBottomY()); checkY--) {
-            if (!world.getBlockState(new BlockPos(pos.getX(), checkY, pos.getZ())).isAir()) {
-                foundGround = true;
-                break;
-            }
-        }
-
-        return foundGround;
-    }
-
     private void spawnNetherMobNearLocation(ServerWorld world, BlockPos location) {
         Random random = world.getRandom();
 
@@ -1612,7 +1859,7 @@ public class UndertaleExtinct implements ModInitializer {
         int spawnZ = (int) (location.getZ() + Math.sin(angle) * distance);
 
         // Find a suitable Y coordinate
-        BlockPos spawnPos = findSuitableSpawnPos(world, new BlockPos(spawnX, location.getY(), spawnZ));
+        BlockPos spawnPos = SpawnPositionFinder.find(world, new BlockPos(spawnX, location.getY(), spawnZ));
         if (spawnPos == null) return;
 
         // Select a random nether mob type for overworld spawning (no striders - they need lava)
@@ -1634,7 +1881,7 @@ public class UndertaleExtinct implements ModInitializer {
 
                     // Check if ghast spawn location is safe
                     BlockPos ghastSpawnPos = new BlockPos((int)(spawnPos.getX() + 0.5), (int)spawnY, (int)(spawnPos.getZ() + 0.5));
-                    if (!isSafeGhastSpawnLocation(world, ghastSpawnPos)) {
+                    if (!SpawnPositionFinder.isSafeGhastSpawn(world, ghastSpawnPos)) {
                         LOGGER.debug("Unsafe ghast spawn location at {}, cancelling spawn", ghastSpawnPos);
                         return; // Don't spawn ghast in unsafe location
                     }
@@ -1643,8 +1890,8 @@ public class UndertaleExtinct implements ModInitializer {
                 mob.refreshPositionAndAngles(spawnPos.getX() + 0.5, spawnY, spawnPos.getZ() + 0.5,
                     random.nextFloat() * 360.0F, 0.0F);
 
-                // Add special tag to protect from extinction system
-                mob.addCommandTag("nether_saved_spawn");
+                // Mark it to protect from extinction system
+                MobMarker.add(mob, MobMarker.NETHER_SAVED_SPAWN);
 
                 // Apply nether saved effects immediately
                 applyNetherSavedEffects(mob);
@@ -1670,7 +1917,7 @@ public class UndertaleExtinct implements ModInitializer {
         int spawnZ = (int) (location.getZ() + Math.sin(angle) * distance);
 
         // Find a suitable Y coordinate
-        BlockPos spawnPos = findSuitableSpawnPos(world, new BlockPos(spawnX, location.getY(), spawnZ));
+        BlockPos spawnPos = SpawnPositionFinder.find(world, new BlockPos(spawnX, location.getY(), spawnZ));
         if (spawnPos == null) return;
 
         try {
@@ -1703,12 +1950,7 @@ public class UndertaleExtinct implements ModInitializer {
                 if (players.isEmpty()) return;
 
                 // Limit sniffer spawning - only spawn if there are fewer than 5 sniffers in the world
-                long snifferCount = 0;
-                for (var entity : serverWorld.iterateEntities()) {
-                    if (entity instanceof SnifferEntity) {
-                        snifferCount++;
-                    }
-                }
+                int snifferCount = MobTypeIndex.count(serverWorld, EntityType.SNIFFER);
                 if (snifferCount >= 5) return;
 
                 // 25% chance to spawn a sniffer
@@ -1735,7 +1977,7 @@ public class UndertaleExtinct implements ModInitializer {
         int spawnZ = (int) (player.getZ() + Math.sin(angle) * distance);
 
         // Find a suitable Y coordinate
-        BlockPos spawnPos = findSuitableSpawnPos(world, new BlockPos(spawnX, player.getBlockY(), spawnZ));
+        BlockPos spawnPos = SpawnPositionFinder.find(world, new BlockPos(spawnX, player.getBlockY(), spawnZ));
         if (spawnPos == null) return;
 
         try {
@@ -1761,12 +2003,7 @@ public class UndertaleExtinct implements ModInitializer {
                 if (players.isEmpty()) return;
 
                 // Limit pillager spawning - only spawn if there are fewer than 15 pillagers in the world
-                long pillagerCount = 0;
-                for (var entity : serverWorld.iterateEntities()) {
-                    if (entity instanceof PillagerEntity) {
-                        pillagerCount++;
-                    }
-                }
+                int pillagerCount = MobTypeIndex.count(serverWorld, EntityType.PILLAGER);
                 if (pillagerCount >= 15) return;
 
                 // 40% chance to spawn a pillager
@@ -1786,12 +2023,7 @@ public class UndertaleExtinct implements ModInitializer {
         if (world instanceof ServerWorld serverWorld) {
             try {
                 // Limit enderdragon spawning - only spawn if there are fewer than 8 dragons in the end
-                long dragonCount = 0;
-                for (var entity : serverWorld.iterateEntities()) {
-                    if (entity instanceof EnderDragonEntity) {
-                        dragonCount++;
-                    }
-                }
+                int dragonCount = MobTypeIndex.count(serverWorld, EntityType.ENDER_DRAGON);
                 if (dragonCount >= 8) return;
 
                 // 85% chance to spawn a dragon (much higher rate)
@@ -1869,7 +2101,7 @@ public class UndertaleExtinct implements ModInitializer {
         int spawnZ = (int) (player.getZ() + Math.sin(angle) * distance);
 
         // Find a suitable Y coordinate
-        BlockPos spawnPos = findSuitableSpawnPos(world, new BlockPos(spawnX, player.getBlockY(), spawnZ));
+        BlockPos spawnPos = SpawnPositionFinder.find(world, new BlockPos(spawnX, player.getBlockY(), spawnZ));
         if (spawnPos == null) return;
 
         try {
@@ -1895,11 +2127,15 @@ public class UndertaleExtinct implements ModInitializer {
     }
 
     private void registerServerEvents() {
-        // Save data when server stops
-        ServerLifecycleEvents.SERVER_STOPPING.register(server -> {
-            saveModData(server);
-            UndertaleScoreboard.saveScores(server);
-        });
+        // Dirty data is snapshotted on the server thread and written in the background:
+        // every 5 minutes and once more when the server stops
+        // Every change is also journaled, so a crash between autosaves loses at most a second;
+        // each written snapshot makes the older journals obsolete
+        PersistenceService.registerDataSet(DATA_ID, UndertaleExtinct::snapshotModData,
+                nbt -> ExtinctionJournal.deleteBefore(nbt.getInt("journalGeneration")));
+        PersistenceService.registerDataSet(UndertaleScoreboard.DATA_ID, UndertaleScoreboard::snapshotScores);
+        PersistenceService.register();
+        ExtinctionJournal.register();
 
         // Load data when server starts
         ServerLifecycleEvents.SERVER_STARTED.register(server -> {
@@ -1908,63 +2144,62 @@ public class UndertaleExtinct implements ModInitializer {
             // Initialize scoreboard based on current purge status
             setWorldPurgeScoreboard(server, allMobSpawningDisabled);
         });
-
-        // Periodic autosave every 5 minutes
-        ServerLifecycleEvents.SERVER_STARTED.register(server -> {
-            Timer timer = new Timer(true);
-            timer.scheduleAtFixedRate(new TimerTask() {
-                @Override
-                public void run() {
-                    if (server.isRunning()) {
-                        saveModData(server);
-                        UndertaleScoreboard.saveScores(server);
-                    }
-                }
-            }, 300000, 300000); // 5 minutes
-        });
     }
 
-    private void saveModData(MinecraftServer server) {
-        try {
-            PersistentStateManager stateManager = server.getOverworld().getPersistentStateManager();
-            ExtinctionData data = stateManager.getOrCreate(
-                    ExtinctionData::fromNbt,
-                    ExtinctionData::new,
-                    MOD_ID + "_data"
-            );
+    /**
+     * Mark the extinction data as changed so the next autosave writes it
+     */
+    private static void markDataDirty() {
+        PersistenceService.markDirty(DATA_ID);
+    }
 
-            data.purgedMobs.clear();
-            data.purgedMobs.addAll(purgedMobs);
+    /**
+     * Journal the current mode flags
+     */
+    private static void journalFlags() {
+        int flags = (isPurgeActive ? 1 : 0)
+                | (isNetherSaved ? 2 : 0)
+                | (isOverworldSaved ? 4 : 0)
+                | (isEndSaved ? 8 : 0)
+                | (allVanillaMobsExtinctNotified ? 16 : 0)
+                | (allMobSpawningDisabled ? 32 : 0);
+        ExtinctionJournal.logFlags(flags);
+    }
 
-            data.extinctMobs.clear();
-            data.extinctMobs.addAll(extinctMobs);
+    /**
+     * Snapshot the extinction data to NBT (server thread only)
+     */
+    private static NbtCompound snapshotModData() {
+        ExtinctionData data = new ExtinctionData();
 
-            data.killCounts.clear();
-            data.killCounts.putAll(killCounts);
+        // Everything journaled so far is part of this snapshot
+        data.journalGeneration = ExtinctionJournal.rotate();
 
-            data.extinctionThreshold = EXTINCTION_THRESHOLD;
-            data.isPurgeActive = isPurgeActive;
-            data.isNetherSaved = isNetherSaved;
-            data.isOverworldSaved = isOverworldSaved;
-            data.isEndSaved = isEndSaved;
-            data.allVanillaMobsExtinctNotified = allVanillaMobsExtinctNotified;
-            data.allMobSpawningDisabled = allMobSpawningDisabled;
+        data.purgedMobs.addAll(purgedMobs);
+        data.extinctMobs.addAll(extinctMobs);
+        data.killCounts.putAll(KillCounter.snapshot());
 
-            data.markDirty();
-            LOGGER.info("Undertale Extinct data saved successfully");
+        data.extinctionThreshold = EXTINCTION_THRESHOLD;
+        data.isPurgeActive = isPurgeActive;
+        data.isNetherSaved = isNetherSaved;
+        data.isOverworldSaved = isOverworldSaved;
+        data.isEndSaved = isEndSaved;
+        data.allVanillaMobsExtinctNotified = allVanillaMobsExtinctNotified;
+        data.allMobSpawningDisabled = allMobSpawningDisabled;
 
-        } catch (Exception e) {
-            LOGGER.error("Failed to save Undertale Extinct data", e);
-        }
+        return data.writeNbt(new NbtCompound());
     }
 
     private void loadModData(MinecraftServer server) {
+        Path dataDir = server.getSavePath(WorldSavePath.ROOT).resolve("data");
+        int journalGeneration = 0;
+
         try {
             PersistentStateManager stateManager = server.getOverworld().getPersistentStateManager();
             ExtinctionData data = stateManager.getOrCreate(
                     ExtinctionData::fromNbt,
                     ExtinctionData::new,
-                    MOD_ID + "_data"
+                    DATA_ID
             );
 
             purgedMobs.clear();
@@ -1972,9 +2207,9 @@ public class UndertaleExtinct implements ModInitializer {
 
             extinctMobs.clear();
             extinctMobs.addAll(data.extinctMobs);
+            publishCursedTypes();
 
-            killCounts.clear();
-            killCounts.putAll(data.killCounts);
+            KillCounter.load(data.killCounts);
 
             EXTINCTION_THRESHOLD = data.extinctionThreshold;
             isPurgeActive = data.isPurgeActive;
@@ -1983,13 +2218,75 @@ public class UndertaleExtinct implements ModInitializer {
             isEndSaved = data.isEndSaved;
             allVanillaMobsExtinctNotified = data.allVanillaMobsExtinctNotified;
             allMobSpawningDisabled = data.allMobSpawningDisabled;
+            journalGeneration = data.journalGeneration;
+
+            // Re-apply changes made after the snapshot was written
+            int highestGeneration = ExtinctionJournal.replay(dataDir, data.journalGeneration, new JournalReplay());
+            publishCursedTypes();
+            if (highestGeneration >= data.journalGeneration) {
+                // Fold the replayed journals into the next snapshot
+                markDataDirty();
+            }
+            journalGeneration = Math.max(journalGeneration, highestGeneration + 1);
 
             LOGGER.info("Undertale Extinct data loaded: {} purged, {} extinct, {} tracked",
-                    purgedMobs.size(), extinctMobs.size(), killCounts.size());
+                    purgedMobs.size(), extinctMobs.size(), data.killCounts.size());
 
         } catch (Exception e) {
             LOGGER.error("Failed to load Undertale Extinct data", e);
         }
+
+        ExtinctionJournal.open(dataDir, journalGeneration);
+    }
+
+    // Applies replayed journal records to the live state
+    private static class JournalReplay implements ExtinctionJournal.Handler {
+        @Override
+        public void kills(Identifier mobId, int delta) {
+            KillCounter.add(mobId, delta);
+        }
+
+        @Override
+        public void killCount(Identifier mobId, int count) {
+            KillCounter.set(mobId, count);
+        }
+
+        @Override
+        public void curseAdded(Identifier mobId, boolean extinct) {
+            purgedMobs.add(mobId);
+            if (extinct) {
+                extinctMobs.add(mobId);
+            }
+        }
+
+        @Override
+        public void curseRemoved(Identifier mobId) {
+            purgedMobs.remove(mobId);
+            extinctMobs.remove(mobId);
+            KillCounter.reset(mobId);
+        }
+
+        @Override
+        public void cursesCleared() {
+            purgedMobs.clear();
+            extinctMobs.clear();
+            KillCounter.clear();
+        }
+
+        @Override
+        public void flags(int flags) {
+            isPurgeActive = (flags & 1) != 0;
+            isNetherSaved = (flags & 2) != 0;
+            isOverworldSaved = (flags & 4) != 0;
+            isEndSaved = (flags & 8) != 0;
+            allVanillaMobsExtinctNotified = (flags & 16) != 0;
+            allMobSpawningDisabled = (flags & 32) != 0;
+        }
+
+        @Override
+        public void threshold(int threshold) {
+            EXTINCTION_THRESHOLD = threshold;
+        }
     }
 
     // Custom PersistentState class for data management
@@ -2004,6 +2301,7 @@ public class UndertaleExtinct implements ModInitializer {
         public boolean isEndSaved = false;
         public boolean allVanillaMobsExtinctNotified = false;
         public boolean allMobSpawningDisabled = false;
+        public int journalGeneration = 0; // First journal generation not included in this snapshot
 
         public static ExtinctionData fromNbt(NbtCompound nbt) {
             ExtinctionData data = new ExtinctionData();
@@ -2058,6 +2356,9 @@ public class UndertaleExtinct implements ModInitializer {
             if (nbt.contains("allMobSpawningDisabled")) {
                 data.allMobSpawningDisabled = nbt.getBoolean("allMobSpawningDisabled");
             }
+            if (nbt.contains("journalGeneration")) {
+                data.journalGeneration = nbt.getInt("journalGeneration");
+            }
 
             return data;
         }
@@ -2093,6 +2394,7 @@ public class UndertaleExtinct implements ModInitializer {
             nbt.putBoolean("isEndSaved", isEndSaved);
             nbt.putBoolean("allVanillaMobsExtinctNotified", allVanillaMobsExtinctNotified);
             nbt.putBoolean("allMobSpawningDisabled", allMobSpawningDisabled);
+            nbt.putInt("journalGeneration", journalGeneration);
 
             return nbt;
         }
@@ -2100,18 +2402,31 @@ public class UndertaleExtinct implements ModInitializer {
 
     // Utility methods for external access (if needed for other mods)
     public static boolean isMobPurged(EntityType<?> entityType) {
-        Identifier mobId = Registries.ENTITY_TYPE.getId(entityType);
-        return purgedMobs.contains(mobId) || extinctMobs.contains(mobId);
+        return cursedTypes.isCursed(entityType);
+    }
+
+    /**
+     * Spawn gate used by the spawn mixins - true if a natural, spawner or structure
+     * spawn of this type should be rejected before the entity is even created.
+     * Nether creatures are left alone in nether saved mode so the ENTITY_LOAD
+     * handler can still protect the ones it allows.
+     */
+    public static boolean shouldBlockSpawn(EntityType<?> entityType) {
+        if (allMobSpawningDisabled) {
+            return true;
+        }
+        if (isNetherSaved && isNetherMob(entityType)) {
+            return false;
+        }
+        return isMobPurged(entityType);
     }
 
     public static boolean isMobExtinct(EntityType<?> entityType) {
-        Identifier mobId = Registries.ENTITY_TYPE.getId(entityType);
-        return extinctMobs.contains(mobId);
+        return cursedTypes.isExtinct(entityType);
     }
 
     public static int getKillCount(EntityType<?> entityType) {
-        Identifier mobId = Registries.ENTITY_TYPE.getId(entityType);
-        return killCounts.getOrDefault(mobId, 0);
+        return KillCounter.get(entityType);
     }
 
     public static boolean isPurgeSystemActive() {
@@ -2121,13 +2436,26 @@ public class UndertaleExtinct implements ModInitializer {
     public static void addPurgedMob(EntityType<?> entityType) {
         Identifier mobId = Registries.ENTITY_TYPE.getId(entityType);
         purgedMobs.add(mobId);
+        publishCursedTypes();
+        ExtinctionJournal.logCurseAdded(mobId, false);
+        markDataDirty();
     }
 
     public static void removePurgedMob(EntityType<?> entityType) {
         Identifier mobId = Registries.ENTITY_TYPE.getId(entityType);
         purgedMobs.remove(mobId);
         extinctMobs.remove(mobId);
-        killCounts.remove(mobId);
+        KillCounter.reset(mobId);
+        publishCursedTypes();
+        ExtinctionJournal.logCurseRemoved(mobId);
+        markDataDirty();
+    }
+
+    /**
+     * Publish a new cursed type snapshot - call after every change to purgedMobs/extinctMobs
+     */
+    private static void publishCursedTypes() {
+        cursedTypes = CursedTypeSnapshot.of(purgedMobs, extinctMobs);
     }
 
     public static Set<Identifier> getPurgedMobs() {
@@ -2138,8 +2466,22 @@ public class UndertaleExtinct implements ModInitializer {
         return new HashSet<>(extinctMobs);
     }
 
+    /**
+     * Switch the purge and saved modes at once (used by the load test harness)
+     */
+    static void setModes(boolean purgeActive, boolean netherSaved, boolean overworldSaved, boolean mobSpawningDisabled) {
+        isPurgeActive = purgeActive;
+        isNetherSaved = netherSaved;
+        isOverworldSaved = overworldSaved;
+        allMobSpawningDisabled = mobSpawningDisabled;
+        journalFlags();
+        markDataDirty();
+    }
+
     public static void setExtinctionThreshold(int threshold) {
         EXTINCTION_THRESHOLD = Math.max(1, threshold);
+        ExtinctionJournal.logThreshold(EXTINCTION_THRESHOLD);
+        markDataDirty();
     }
 
     public static int getExtinctionThreshold() {
@@ -2184,6 +2526,8 @@ public class UndertaleExtinct implements ModInitializer {
         // If all vanilla mobs are extinct, send special notification
         if (allExtinct) {
             allVanillaMobsExtinctNotified = true;
+            journalFlags();
+            markDataDirty();
 
             if (config.isChatMessagesEnabled()) {
                 // Epic extinction completion message
@@ -2278,65 +2622,69 @@ public class UndertaleExtinct implements ModInitializer {
         }
 
         int totalExterminated = 0;
-        int totalKilled = 0;
 
         // Add all vanilla mobs to extinct and purged lists (like /exterminate command)
         for (Identifier vanillaMob : VANILLA_MOBS) {
             if (!extinctMobs.contains(vanillaMob) && !purgedMobs.contains(vanillaMob)) {
                 extinctMobs.add(vanillaMob);
                 purgedMobs.add(vanillaMob);
-                killCounts.put(vanillaMob, EXTINCTION_THRESHOLD); // Set kill count to threshold
+                KillCounter.set(vanillaMob, EXTINCTION_THRESHOLD); // Set kill count to threshold
+                ExtinctionJournal.logCurseAdded(vanillaMob, true);
+                ExtinctionJournal.logKillCount(vanillaMob, EXTINCTION_THRESHOLD);
                 totalExterminated++;
             }
         }
+        publishCursedTypes();
+        markDataDirty();
 
-        // Kill all existing vanilla mobs in all loaded worlds (like /exterminate command)
-        for (ServerWorld serverWorld : server.getWorlds()) {
-            for (Identifier vanillaMob : VANILLA_MOBS) {
-                // Get the EntityType from the Identifier
-                EntityType<?> entityType = Registries.ENTITY_TYPE.get(vanillaMob);
-                if (entityType != null) {
-                    // Kill all existing mobs of this type (same logic as /exterminate)
-                    for (Object entityObj : serverWorld.getEntitiesByType(entityType, livingEntity -> livingEntity.isAlive())) {
-                        if (entityObj instanceof MobEntity mobEntity) {
-                            // Don't kill mobs that were spawned as part of nether/overworld saved system
-                            if (!mobEntity.getCommandTags().contains("nether_saved_spawn") &&
-                                !mobEntity.getCommandTags().contains("spared")) {
-                                mobEntity.damage(serverWorld.getDamageSources().genericKill(), Float.MAX_VALUE);
-                                totalKilled++;
-                            }
-                        }
-                    }
-                }
+        // Kill all existing vanilla mobs in all loaded worlds - one sweep for every type at once
+        List<EntityType<?>> vanillaTypes = new ArrayList<>();
+        for (Identifier vanillaMob : VANILLA_MOBS) {
+            // Legacy ids (zombie_pigman) are not registered anymore
+            if (Registries.ENTITY_TYPE.containsId(vanillaMob)) {
+                vanillaTypes.add(Registries.ENTITY_TYPE.get(vanillaMob));
             }
         }
 
         final int finalTotalExterminated = totalExterminated;
-        final int finalTotalKilled = totalKilled;
         final int totalVanillaMobs = VANILLA_MOBS.size();
+        final String playerName = player.getName().getString();
+
+        ExtinctionSweep.start(server, "full vanilla extinction", vanillaTypes, true, new ExtinctionSweep.Listener() {
+            @Override
+            public void onProgress(int killed, int estimatedTotal) {
+                source.sendFeedback(() -> Text.literal("§7Genocide protocol: §c" + killed + "§7/§f~" + estimatedTotal + " §7mobs eliminated"), false);
+            }
 
-        // Send completion messages
-        source.sendFeedback(() -> Text.literal("§4💀 FULL VANILLA EXTINCTION COMPLETE! 💀"), false);
+            @Override
+            public void onComplete(int killed, boolean cancelled) {
+                source.sendFeedback(() -> Text.literal(cancelled ? "§7Genocide protocol cancelled." : "§4💀 FULL VANILLA EXTINCTION COMPLETE! 💀"), false);
+                source.sendFeedback(() -> Text.literal("§cLiving mobs eliminated: §f" + killed), false);
+                LOGGER.info("Player {} executed full vanilla extinction: {} species extinct, {} mobs killed",
+                        playerName, finalTotalExterminated, killed);
+            }
+        });
+
+        // Send immediate status - the sweep reports the kills when it finishes
         source.sendFeedback(() -> Text.literal("§cSpecies marked extinct: §f" + finalTotalExterminated + "§c/§f" + totalVanillaMobs), false);
-        source.sendFeedback(() -> Text.literal("§cLiving mobs eliminated: §f" + finalTotalKilled), false);
 
         // Enable complete mob spawning disable - no mobs can spawn anywhere
         allMobSpawningDisabled = true;
+        journalFlags();
+        markDataDirty();
 
         // Set scoreboard objective for world purge status
         setWorldPurgeScoreboard(server, true);
 
         // Force the vanilla extinction check and notification
         allVanillaMobsExtinctNotified = false; // Reset so we can trigger the notification
+        journalFlags();
         checkAllVanillaMobsExtinct(player);
 
         // Additional feedback about complete spawning disable
         source.sendFeedback(() -> Text.literal("§4§lWARNING: ALL mob spawning has been permanently disabled!"), false);
         source.sendFeedback(() -> Text.literal("§7The world is now completely lifeless - no mobs will spawn anywhere."), false);
         source.sendFeedback(() -> Text.literal("§7Scoreboard: §eworldpurged = 1"), false);
-
-        LOGGER.info("Player {} executed full vanilla extinction: {} species extinct, {} mobs killed",
-                   player.getName().getString(), finalTotalExterminated, finalTotalKilled);
     }
 
     private static void setWorldPurgeScoreboard(MinecraftServer server, boolean purged) {
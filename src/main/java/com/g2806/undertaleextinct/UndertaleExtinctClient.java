@@ -18,6 +18,15 @@ public class UndertaleExtinctClient implements ClientModInitializer {
     public void onInitializeClient() {
         LOGGER.info("Initializing Undertale Extinct Client...");
         
+        // Shared texture cache (released on resource reload)
+        TextureCache.register();
+        
+        // Tick-driven timeline for overlay fades and sequences
+        ClientTimeline.register();
+        
+        // Single batched HUD pass for both attack overlays
+        AttackHudRenderer.register();
+        
         // Initialize animation player
         animationPlayer = new AnimationPlayer();
         
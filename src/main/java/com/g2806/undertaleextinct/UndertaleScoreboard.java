@@ -17,9 +17,14 @@ import java.util.concurrent.ConcurrentHashMap;
 public class UndertaleScoreboard {
     private static final Logger LOGGER = LoggerFactory.getLogger("UndertaleScoreboard");
     private static final String MOD_ID = "undertaleextinct";
+    public static final String DATA_ID = MOD_ID + "_scoreboard";
     
     // In-memory storage for scores
     private static final Map<UUID, PlayerScores> playerScores = new ConcurrentHashMap<>();
+
+    // Leaderboard index: players bucketed by distance of their best attack from 50,
+    // in the order they reached it. Guarded by its own monitor.
+    private static final TreeMap<Integer, LinkedHashSet<UUID>> leaderboardIndex = new TreeMap<>();
     
     /**
      * Player score data container
@@ -60,6 +65,7 @@ public class UndertaleScoreboard {
      */
     public static void recordAttackValue(UUID playerId, int attackValue) {
         PlayerScores scores = playerScores.computeIfAbsent(playerId, k -> new PlayerScores());
+        int previousDistance = scores.totalAttacks > 0 ? Math.abs(scores.bestAttackValue - 50) : -1;
         
         // Update scores
         scores.lastAttackValue = attackValue;
@@ -71,6 +77,7 @@ public class UndertaleScoreboard {
         int newScore = Math.abs(attackValue - 50);
         if (scores.totalAttacks == 1 || newScore < currentBest) {
             scores.bestAttackValue = attackValue;
+            moveInLeaderboard(playerId, previousDistance, newScore);
         }
         
         // Count perfect attacks (45-55 range)
@@ -80,6 +87,7 @@ public class UndertaleScoreboard {
         
         // Calculate average
         scores.averageAttackValue = calculateAverage(playerId, attackValue);
+        PersistenceService.markDirty(DATA_ID);
         
         LOGGER.info("Recorded attack value {} for player {}. Total attacks: {}, Best: {}, Average: {}", 
                    attackValue, playerId, scores.totalAttacks, scores.bestAttackValue, scores.averageAttackValue);
@@ -148,7 +156,11 @@ public class UndertaleScoreboard {
      * Reset a player's scores
      */
     public static void resetPlayerScores(UUID playerId) {
-        playerScores.remove(playerId);
+        PlayerScores scores = playerScores.remove(playerId);
+        if (scores != null && scores.totalAttacks > 0) {
+            moveInLeaderboard(playerId, Math.abs(scores.bestAttackValue - 50), -1);
+        }
+        PersistenceService.markDirty(DATA_ID);
         LOGGER.info("Reset attack scores for player {}", playerId);
     }
     
@@ -157,23 +169,74 @@ public class UndertaleScoreboard {
      */
     public static void resetAllScores() {
         playerScores.clear();
+        synchronized (leaderboardIndex) {
+            leaderboardIndex.clear();
+        }
+        PersistenceService.markDirty(DATA_ID);
         LOGGER.info("Reset all attack scores");
     }
     
     /**
      * Get leaderboard (top players by best attack value)
+     * Walks the leaderboard index from the closest-to-50 bucket, so only the returned players are visited.
      */
     public static List<Map.Entry<UUID, PlayerScores>> getLeaderboard(int limit) {
-        return playerScores.entrySet().stream()
-                .filter(entry -> entry.getValue().totalAttacks > 0)
-                .sorted((a, b) -> {
-                    // Sort by closest to 50 (best attack value)
-                    int scoreA = Math.abs(a.getValue().bestAttackValue - 50);
-                    int scoreB = Math.abs(b.getValue().bestAttackValue - 50);
-                    return Integer.compare(scoreA, scoreB);
-                })
-                .limit(limit)
-                .toList();
+        List<Map.Entry<UUID, PlayerScores>> leaderboard = new ArrayList<>(Math.max(0, Math.min(limit, 64)));
+        if (limit <= 0) return leaderboard;
+
+        synchronized (leaderboardIndex) {
+            for (LinkedHashSet<UUID> bucket : leaderboardIndex.values()) {
+                for (UUID playerId : bucket) {
+                    PlayerScores scores = playerScores.get(playerId);
+                    if (scores == null) continue;
+
+                    leaderboard.add(Map.entry(playerId, scores));
+                    if (leaderboard.size() >= limit) return leaderboard;
+                }
+            }
+        }
+        return leaderboard;
+    }
+
+    /**
+     * Move a player between leaderboard buckets (-1 = not ranked)
+     */
+    private static void moveInLeaderboard(UUID playerId, int oldDistance, int newDistance) {
+        synchronized (leaderboardIndex) {
+            if (oldDistance >= 0) {
+                LinkedHashSet<UUID> bucket = leaderboardIndex.get(oldDistance);
+                if (bucket != null) {
+                    bucket.remove(playerId);
+                    if (bucket.isEmpty()) {
+                        leaderboardIndex.remove(oldDistance);
+                    }
+                }
+            }
+            if (newDistance >= 0) {
+                leaderboardIndex.computeIfAbsent(newDistance, d -> new LinkedHashSet<>()).add(playerId);
+            }
+        }
+    }
+
+    /**
+     * Replace all in-memory scores and rebuild the leaderboard index
+     */
+    static void replaceScores(Map<UUID, PlayerScores> scores) {
+        playerScores.clear();
+        playerScores.putAll(scores);
+        rebuildLeaderboard();
+    }
+
+    private static void rebuildLeaderboard() {
+        synchronized (leaderboardIndex) {
+            leaderboardIndex.clear();
+            for (Map.Entry<UUID, PlayerScores> entry : playerScores.entrySet()) {
+                if (entry.getValue().totalAttacks > 0) {
+                    int distance = Math.abs(entry.getValue().bestAttackValue - 50);
+                    leaderboardIndex.computeIfAbsent(distance, d -> new LinkedHashSet<>()).add(entry.getKey());
+                }
+            }
+        }
     }
     
     // Persistent data storage
@@ -223,25 +286,13 @@ public class UndertaleScoreboard {
     }
     
     /**
-     * Save scores to persistent storage
+     * Snapshot scores to NBT for the persistence service (server thread only)
      */
-    public static void saveScores(MinecraftServer server) {
-        if (server == null) return;
-        
-        try {
-            PersistentStateManager stateManager = server.getOverworld().getPersistentStateManager();
-            ScoreboardData data = stateManager.getOrCreate(
-                    ScoreboardData::fromNbt,
-                    ScoreboardData::new,
-                    MOD_ID + "_scoreboard"
-            );
-            
-            data.updateScores(playerScores);
-            LOGGER.info("Saved attack scoreboard with {} players", playerScores.size());
-            
-        } catch (Exception e) {
-            LOGGER.error("Failed to save attack scoreboard", e);
-        }
+    public static NbtCompound snapshotScores() {
+        ScoreboardData data = new ScoreboardData();
+        data.updateScores(playerScores);
+        LOGGER.debug("Snapshotted attack scoreboard with {} players", playerScores.size());
+        return data.writeNbt(new NbtCompound());
     }
     
     /**
@@ -255,11 +306,10 @@ public class UndertaleScoreboard {
             ScoreboardData data = stateManager.getOrCreate(
                     ScoreboardData::fromNbt,
                     ScoreboardData::new,
-                    MOD_ID + "_scoreboard"
+                    DATA_ID
             );
             
-            playerScores.clear();
-            playerScores.putAll(data.getStoredScores());
+            replaceScores(data.getStoredScores());
             
             LOGGER.info("Loaded attack scoreboard with {} players", playerScores.size());
             
@@ -0,0 +1,15 @@
+package com.g2806.undertaleextinct.mixin;
+
+import net.minecraft.world.storage.EntityChunkDataAccess;
+import net.minecraft.world.storage.StorageIoWorker;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+
+/**
+ * Access to the IO worker that owns a dimension's entity region files
+ */
+@Mixin(EntityChunkDataAccess.class)
+public interface EntityChunkDataAccessAccessor {
+    @Accessor("dataLoadWorker")
+    StorageIoWorker undertaleextinct$getDataLoadWorker();
+}
@@ -0,0 +1,45 @@
+package com.g2806.undertaleextinct.mixin;
+
+import com.g2806.undertaleextinct.MobMarker;
+import net.minecraft.entity.mob.MobEntity;
+import net.minecraft.nbt.NbtCompound;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Gives every mob the {@link MobMarker} bit flags and saves them with the mob.
+ * Old "nether_saved_spawn"/"spared" command tags are converted when the mob loads.
+ */
+@Mixin(MobEntity.class)
+public abstract class MobEntityMixin implements MobMarker.Holder {
+    @Unique
+    private byte undertaleextinct$markers;
+
+    @Override
+    public int undertaleextinct$getMarkers() {
+        return undertaleextinct$markers & 0xFF;
+    }
+
+    @Override
+    public void undertaleextinct$setMarkers(int markers) {
+        undertaleextinct$markers = (byte) markers;
+    }
+
+    @Inject(method = "writeCustomDataToNbt", at = @At("TAIL"))
+    private void undertaleextinct$writeMarkers(NbtCompound nbt, CallbackInfo ci) {
+        // Unmarked mobs don't get the key at all
+        if (undertaleextinct$markers != 0) {
+            nbt.putByte(MobMarker.NBT_KEY, undertaleextinct$markers);
+        }
+    }
+
+    @Inject(method = "readCustomDataFromNbt", at = @At("TAIL"))
+    private void undertaleextinct$readMarkers(NbtCompound nbt, CallbackInfo ci) {
+        undertaleextinct$markers = nbt.getByte(MobMarker.NBT_KEY);
+        // Command tags are read before the custom data, so they can be migrated here
+        MobMarker.migrateCommandTags((MobEntity) (Object) this);
+    }
+}
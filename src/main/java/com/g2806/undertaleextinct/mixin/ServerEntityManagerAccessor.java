@@ -0,0 +1,20 @@
+package com.g2806.undertaleextinct.mixin;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import net.minecraft.server.world.ServerEntityManager;
+import net.minecraft.world.storage.ChunkDataAccess;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+
+/**
+ * Access to the entity storage and to the chunks the entity manager still holds
+ * (loading, loaded or waiting to be saved)
+ */
+@Mixin(ServerEntityManager.class)
+public interface ServerEntityManagerAccessor {
+    @Accessor("dataAccess")
+    ChunkDataAccess<?> undertaleextinct$getDataAccess();
+
+    @Accessor("managedStatuses")
+    Long2ObjectMap<?> undertaleextinct$getManagedStatuses();
+}
@@ -0,0 +1,16 @@
+package com.g2806.undertaleextinct.mixin;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.server.world.ServerEntityManager;
+import net.minecraft.server.world.ServerWorld;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+
+/**
+ * Access to the world's entity manager, for the region entity sweeper
+ */
+@Mixin(ServerWorld.class)
+public interface ServerWorldAccessor {
+    @Accessor("entityManager")
+    ServerEntityManager<Entity> undertaleextinct$getEntityManager();
+}
@@ -0,0 +1,33 @@
+package com.g2806.undertaleextinct.mixin;
+
+import com.g2806.undertaleextinct.UndertaleExtinct;
+import net.minecraft.entity.EntityType;
+import net.minecraft.entity.SpawnRestriction;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.SpawnHelper;
+import net.minecraft.world.WorldView;
+import org.jetbrains.annotations.Nullable;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+/**
+ * Rejects cursed mob types in the natural spawning and chunk population
+ * position checks, before SpawnHelper creates the entity.
+ */
+@Mixin(SpawnHelper.class)
+public abstract class SpawnHelperMixin {
+
+    @Inject(
+            method = "canSpawn(Lnet/minecraft/entity/SpawnRestriction$Location;Lnet/minecraft/world/WorldView;Lnet/minecraft/util/math/BlockPos;Lnet/minecraft/entity/EntityType;)Z",
+            at = @At("HEAD"),
+            cancellable = true
+    )
+    private static void undertaleextinct$gateCursedSpawn(SpawnRestriction.Location location, WorldView world, BlockPos pos,
+                                                         @Nullable EntityType<?> entityType, CallbackInfoReturnable<Boolean> cir) {
+        if (entityType != null && UndertaleExtinct.shouldBlockSpawn(entityType)) {
+            cir.setReturnValue(false);
+        }
+    }
+}
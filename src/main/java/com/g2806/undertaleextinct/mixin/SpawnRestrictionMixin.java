@@ -0,0 +1,37 @@
+package com.g2806.undertaleextinct.mixin;
+
+import com.g2806.undertaleextinct.UndertaleExtinct;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityType;
+import net.minecraft.entity.SpawnReason;
+import net.minecraft.entity.SpawnRestriction;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.random.Random;
+import net.minecraft.world.ServerWorldAccess;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+/**
+ * Rejects cursed mob types in the spawn restriction check shared by natural
+ * spawning, mob spawners, structures and patrols, before any entity is created.
+ */
+@Mixin(SpawnRestriction.class)
+public abstract class SpawnRestrictionMixin {
+
+    @Inject(method = "canSpawn", at = @At("HEAD"), cancellable = true)
+    private static <T extends Entity> void undertaleextinct$gateCursedSpawn(EntityType<T> type, ServerWorldAccess world, SpawnReason spawnReason,
+                                                                            BlockPos pos, Random random, CallbackInfoReturnable<Boolean> cir) {
+        switch (spawnReason) {
+            case NATURAL, CHUNK_GENERATION, SPAWNER, STRUCTURE, PATROL -> {
+                if (UndertaleExtinct.shouldBlockSpawn(type)) {
+                    cir.setReturnValue(false);
+                }
+            }
+            default -> {
+                // Commands, eggs, breeding etc. are left to the ENTITY_LOAD fallback
+            }
+        }
+    }
+}
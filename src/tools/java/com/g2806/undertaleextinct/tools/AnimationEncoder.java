@@ -0,0 +1,206 @@
+package com.g2806.undertaleextinct.tools;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.Deflater;
+
+/**
+ * Build-time encoder for the cutscene animation. Packs a directory of frame images
+ * (sorted by file name) into the compact container read by AnimationVideo: the first
+ * frame is stored whole, every later frame only stores the tiles that changed.
+ *
+ * Usage: AnimationEncoder <frames dir> <output file> [tile size] [threshold]
+ */
+public class AnimationEncoder {
+    // Must match AnimationVideo
+    private static final int MAGIC = 0x55544156; // "UTAV"
+    private static final int VERSION = 1;
+    private static final int FLAG_KEYFRAME = 1;
+
+    private static final int DEFAULT_TILE_SIZE = 16;
+
+    // A tile is re-sent once any channel drifts further than this from what the player shows,
+    // which skips JPEG noise between frames without letting errors build up
+    private static final int DEFAULT_THRESHOLD = 12;
+
+    // Frames that change at least this share of the tiles are stored as keyframes (scene cuts)
+    private static final double KEYFRAME_RATIO = 0.75;
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: AnimationEncoder <frames dir> <output file> [tile size] [threshold]");
+            System.exit(1);
+        }
+
+        File framesDir = new File(args[0]);
+        Path output = Path.of(args[1]);
+        int tileSize = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_TILE_SIZE;
+        int threshold = args.length > 3 ? Integer.parseInt(args[3]) : DEFAULT_THRESHOLD;
+
+        File[] frameFiles = framesDir.listFiles((dir, name) -> {
+            String lower = name.toLowerCase();
+            return lower.endsWith(".jpg") || lower.endsWith(".jpeg") || lower.endsWith(".png");
+        });
+        if (frameFiles == null || frameFiles.length == 0) {
+            throw new IOException("No frames found in " + framesDir);
+        }
+        Arrays.sort(frameFiles);
+
+        encode(frameFiles, output, tileSize, threshold);
+    }
+
+    private static void encode(File[] frameFiles, Path output, int tileSize, int threshold) throws IOException {
+        int width = -1;
+        int height = -1;
+        int tilesPerRow = 0;
+        int tileCount = 0;
+        int[] shown = null; // What the player will have on screen after each frame
+
+        List<byte[]> payloads = new ArrayList<>();
+        List<Integer> rawLengths = new ArrayList<>();
+        List<Boolean> keyframes = new ArrayList<>();
+        long sourceBytes = 0;
+
+        for (File frameFile : frameFiles) {
+            BufferedImage image = ImageIO.read(frameFile);
+            if (image == null) throw new IOException("Unreadable frame " + frameFile);
+            sourceBytes += frameFile.length();
+
+            if (width < 0) {
+                width = image.getWidth();
+                height = image.getHeight();
+                tilesPerRow = (width + tileSize - 1) / tileSize;
+                tileCount = tilesPerRow * ((height + tileSize - 1) / tileSize);
+                if (tileCount > 0xFFFF) throw new IOException("Too many tiles, use a larger tile size");
+            } else if (image.getWidth() != width || image.getHeight() != height) {
+                throw new IOException("Frame " + frameFile + " is not " + width + "x" + height);
+            }
+
+            int[] pixels = image.getRGB(0, 0, width, height, null, 0, width);
+
+            // Find the tiles that drifted too far from what is on screen
+            boolean[] changed = new boolean[tileCount];
+            int changedCount = 0;
+            for (int tile = 0; tile < tileCount; tile++) {
+                if (shown == null || tileDiffers(pixels, shown, tile, width, height, tilesPerRow, tileSize, threshold)) {
+                    changed[tile] = true;
+                    changedCount++;
+                }
+            }
+
+            boolean keyframe = shown == null || changedCount >= tileCount * KEYFRAME_RATIO;
+            if (shown == null) {
+                shown = new int[width * height];
+            }
+
+            ByteArrayOutputStream rawBytes = new ByteArrayOutputStream();
+            DataOutputStream raw = new DataOutputStream(rawBytes);
+            for (int tile = 0; tile < tileCount; tile++) {
+                if (!keyframe && !changed[tile]) continue;
+
+                raw.writeShort(tile);
+                int x0 = (tile % tilesPerRow) * tileSize;
+                int y0 = (tile / tilesPerRow) * tileSize;
+                int x1 = Math.min(width, x0 + tileSize);
+                int y1 = Math.min(height, y0 + tileSize);
+                for (int y = y0; y < y1; y++) {
+                    // Store each pixel as the difference from the one to its left
+                    int left = 0;
+                    for (int x = x0; x < x1; x++) {
+                        int pixel = pixels[y * width + x];
+                        raw.writeByte(((pixel >> 16) - (left >> 16)) & 0xFF);
+                        raw.writeByte(((pixel >> 8) - (left >> 8)) & 0xFF);
+                        raw.writeByte((pixel - left) & 0xFF);
+                        left = pixel;
+                        shown[y * width + x] = pixel;
+                    }
+                }
+            }
+            raw.flush();
+
+            byte[] uncompressed = rawBytes.toByteArray();
+            payloads.add(deflate(uncompressed));
+            rawLengths.add(uncompressed.length);
+            keyframes.add(keyframe);
+        }
+
+        // Header, index, then payloads
+        int headerSize = 6 * 4 + payloads.size() * 13;
+        ByteArrayOutputStream fileBytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(fileBytes);
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(width);
+        out.writeInt(height);
+        out.writeInt(tileSize);
+        out.writeInt(payloads.size());
+
+        int offset = headerSize;
+        for (int i = 0; i < payloads.size(); i++) {
+            out.writeInt(offset);
+            out.writeInt(payloads.get(i).length);
+            out.writeInt(rawLengths.get(i));
+            out.writeByte(keyframes.get(i) ? FLAG_KEYFRAME : 0);
+            offset += payloads.get(i).length;
+        }
+        for (byte[] payload : payloads) {
+            out.write(payload);
+        }
+        out.flush();
+
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        try (OutputStream fileOut = Files.newOutputStream(output)) {
+            fileBytes.writeTo(fileOut);
+        }
+
+        long keyframeCount = keyframes.stream().filter(Boolean::booleanValue).count();
+        System.out.printf("Encoded %d frames (%dx%d, %d keyframes) from %d to %d bytes%n",
+                payloads.size(), width, height, keyframeCount, sourceBytes, fileBytes.size());
+    }
+
+    private static boolean tileDiffers(int[] pixels, int[] shown, int tile, int width, int height,
+                                       int tilesPerRow, int tileSize, int threshold) {
+        int x0 = (tile % tilesPerRow) * tileSize;
+        int y0 = (tile / tilesPerRow) * tileSize;
+        int x1 = Math.min(width, x0 + tileSize);
+        int y1 = Math.min(height, y0 + tileSize);
+        for (int y = y0; y < y1; y++) {
+            for (int x = x0; x < x1; x++) {
+                int pixel = pixels[y * width + x];
+                int previous = shown[y * width + x];
+                for (int shift = 0; shift < 24; shift += 8) {
+                    int difference = ((pixel >> shift) & 0xFF) - ((previous >> shift) & 0xFF);
+                    if (Math.abs(difference) > threshold) return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static byte[] deflate(byte[] input) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(64, input.length / 4));
+            byte[] buffer = new byte[16384];
+            while (!deflater.finished()) {
+                int count = deflater.deflate(buffer);
+                compressed.write(buffer, 0, count);
+            }
+            return compressed.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+}